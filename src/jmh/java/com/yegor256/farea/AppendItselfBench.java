@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end benchmark of {@link Dependencies#appendItself(Path)},
+ * which packages the entire classpath and deploys it.
+ *
+ * <p>In the "cold" mode, every invocation starts with an empty reactor
+ * and an empty local repository. In the "warm" mode, both are kept
+ * between invocations.</p>
+ *
+ * @since 0.16.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class AppendItselfBench {
+
+    /**
+     * Start every invocation in empty directories ("cold"), or keep
+     * them between invocations ("warm").
+     */
+    @Param({"cold", "warm"})
+    public String mode;
+
+    /**
+     * Temporary directory.
+     */
+    private Path temp;
+
+    /**
+     * Make the directory.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.temp = Files.createTempDirectory("jmh");
+    }
+
+    /**
+     * Clean the directories, if in the "cold" mode.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Invocation)
+    public void prepare() throws IOException {
+        if ("cold".equals(this.mode)) {
+            new Farea(this.temp.resolve("home")).clean();
+            new Farea(this.temp.resolve("m2")).clean();
+        }
+    }
+
+    /**
+     * Delete the temporary directory.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        new DtRequisite(this.temp.getParent(), this.temp.getFileName().toString()).delete();
+    }
+
+    /**
+     * Append itself.
+     * @return The dependency
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Dependency appendsItself() throws IOException {
+        return new Farea(this.temp.resolve("home"))
+            .dependencies()
+            .appendItself(this.temp.resolve("m2"));
+    }
+}
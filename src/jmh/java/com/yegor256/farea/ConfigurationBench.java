@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link DtConfiguration#set(String, Object)},
+ * with nested maps and lists.
+ *
+ * @since 0.16.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConfigurationBench {
+
+    /**
+     * How many items are in each map and list.
+     */
+    @Param({"1", "10", "50"})
+    public int items;
+
+    /**
+     * The configuration.
+     */
+    private Configuration config;
+
+    /**
+     * The value to set.
+     */
+    private Map<String, Object> value;
+
+    /**
+     * Temporary directory.
+     */
+    private Path temp;
+
+    /**
+     * Make a POM and a value.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.temp = Files.createTempDirectory("jmh");
+        this.config = new DtConfiguration(
+            new Pom(this.temp.resolve("pom.xml")).init(), "/project"
+        );
+        this.value = new HashMap<>(0);
+        for (int key = 0; key < this.items; ++key) {
+            final List<String> list = new ArrayList<>(this.items);
+            for (int idx = 0; idx < this.items; ++idx) {
+                list.add(String.format("item-%d", idx));
+            }
+            this.value.put(String.format("key%d", key), list);
+        }
+    }
+
+    /**
+     * Delete the temporary directory.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        new DtRequisite(this.temp.getParent(), this.temp.getFileName().toString()).delete();
+    }
+
+    /**
+     * Set a nested value.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void setsNestedValue() throws IOException {
+        this.config.set("nested", this.value);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Itself#deploy(Path)}, which zips a synthetic
+ * directory of classes into a JAR.
+ *
+ * @since 0.16.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItselfBench {
+
+    /**
+     * How many classes are in the directory.
+     */
+    @Param({"10", "100", "1000"})
+    public int classes;
+
+    /**
+     * Temporary directory.
+     */
+    private Path temp;
+
+    /**
+     * The plugin.
+     */
+    private Itself itself;
+
+    /**
+     * Make a directory with classes.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.temp = Files.createTempDirectory("jmh");
+        final Path target = this.temp.resolve("classes");
+        final byte[] body = new byte[2048];
+        for (int idx = 0; idx < this.classes; ++idx) {
+            new DtRequisite(target, String.format("com/example/p%d/C%d.class", idx % 10, idx))
+                .write(body);
+        }
+        new DtRequisite(target, "META-INF/maven/plugin.xml").write(
+            "<plugin><version>1.0</version></plugin>".getBytes(StandardCharsets.UTF_8)
+        );
+        new DtRequisite(this.temp, "pom.xml").write(
+            String.join(
+                "",
+                "<project><groupId>org.example</groupId>",
+                "<artifactId>bench</artifactId><version>1.0</version></project>"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        this.itself = new Itself(
+            this.temp.resolve("home"), new Base(this.temp.resolve("pom.xml")),
+            true, target.toString()
+        );
+    }
+
+    /**
+     * Delete the temporary directory.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        new DtRequisite(this.temp.getParent(), this.temp.getFileName().toString()).delete();
+    }
+
+    /**
+     * Package and deploy.
+     * @return The version deployed
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String deploysJar() throws IOException {
+        return this.itself.deploy(this.temp.resolve("m2"));
+    }
+}
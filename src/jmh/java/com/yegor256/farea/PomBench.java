@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xembly.Directives;
+
+/**
+ * Benchmark of {@link Pom#modify(Iterable)}, for POMs of different sizes.
+ *
+ * @since 0.16.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PomBench {
+
+    /**
+     * How many dependencies are in the POM.
+     */
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    /**
+     * The POM.
+     */
+    private Pom pom;
+
+    /**
+     * Temporary directory.
+     */
+    private Path temp;
+
+    /**
+     * Make a POM with many dependencies.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.temp = Files.createTempDirectory("jmh");
+        this.pom = new Pom(this.temp.resolve("pom.xml")).init();
+        final Directives dirs = new Directives().xpath("/project").addIf("dependencies");
+        for (int idx = 0; idx < this.size; ++idx) {
+            dirs.add("dependency")
+                .add("groupId").set("org.example").up()
+                .add("artifactId").set(String.format("a%d", idx)).up()
+                .add("version").set("1.0").up()
+                .up();
+        }
+        this.pom.modify(dirs);
+    }
+
+    /**
+     * Delete the temporary directory.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        new DtRequisite(this.temp.getParent(), this.temp.getFileName().toString()).delete();
+    }
+
+    /**
+     * Modify one property.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void modifiesProperty() throws IOException {
+        this.pom.modify(
+            new Directives()
+                .xpath("/project")
+                .addIf("properties")
+                .addIf("foo")
+                .set("bar")
+        );
+    }
+}
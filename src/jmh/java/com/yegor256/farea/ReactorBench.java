@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end benchmark of a Maven build, executed through Farea and
+ * directly, the way Maven Invoker Plugin does it.
+ *
+ * <p>The project is the same as in {@code src/it/simple}: one class
+ * and one JUnit test. In the "cold" mode, every build starts in an empty
+ * directory. In the "warm" mode, the directory is kept between builds,
+ * together with its {@code target/}, like it happens when the same
+ * {@link Farea} runs a few builds in one test. The baseline always
+ * starts from scratch, with {@code clean}, like the invoker does.</p>
+ *
+ * <p>Since a Maven build takes seconds, each invocation is measured
+ * separately, in the single-shot mode.</p>
+ *
+ * @since 0.16.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ReactorBench {
+
+    /**
+     * Maven goal to execute.
+     */
+    @Param({"compile", "test"})
+    public String goal;
+
+    /**
+     * Start every build in an empty directory ("cold"), or keep
+     * the directory between builds ("warm").
+     */
+    @Param({"cold", "warm"})
+    public String mode;
+
+    /**
+     * Temporary directory.
+     */
+    private Path temp;
+
+    /**
+     * Home of the reactor.
+     */
+    private Path home;
+
+    /**
+     * Make the reactor and a copy of it, for the baseline.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.temp = Files.createTempDirectory("jmh");
+        this.home = this.temp.resolve("farea");
+        ReactorBench.project(new Farea(this.temp.resolve("fixture")));
+        ReactorBench.project(new Farea(this.home));
+    }
+
+    /**
+     * Make the reactor from scratch, if in the "cold" mode.
+     *
+     * <p>In the "warm" mode, the sources are not touched, since they
+     * were written once, in {@link #setup()}. Otherwise, their new
+     * modification times would make Maven rebuild them.</p>
+     *
+     * <p>Directories are deleted right away, not in background, as
+     * {@link Farea#clean()} does, since otherwise the deletion would
+     * compete with the measured build for the disk.</p>
+     *
+     * @throws IOException If fails
+     */
+    @Setup(Level.Invocation)
+    public void prepare() throws IOException {
+        if ("cold".equals(this.mode)) {
+            Trash.JVM.erase(this.home);
+            ReactorBench.project(new Farea(this.home));
+        }
+        Trash.JVM.erase(this.temp.resolve("invoker"));
+        new DtRequisite(this.temp, "invoker").save(this.temp.resolve("fixture"));
+    }
+
+    /**
+     * Delete the temporary directory.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        new DtRequisite(this.temp.getParent(), this.temp.getFileName().toString()).delete();
+    }
+
+    /**
+     * Build through Farea.
+     * @return Exit code
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public int farea() throws IOException {
+        return new Farea(this.home).exec(this.goal).code();
+    }
+
+    /**
+     * Build directly, like Maven Invoker Plugin does.
+     * @return Exit code
+     * @throws IOException If fails
+     * @throws InterruptedException If interrupted
+     */
+    @Benchmark
+    public int invoker() throws IOException, InterruptedException {
+        final Path dir = this.temp.resolve("invoker");
+        final int code = new ProcessBuilder(
+            Arrays.asList("mvn", "--batch-mode", "--errors", "clean", this.goal)
+        )
+            .directory(dir.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(dir.resolve("build.log").toFile())
+            .start()
+            .waitFor();
+        if (code != 0) {
+            throw new IllegalStateException(
+                String.format("Maven failed with exit code %d, see %s", code, dir)
+            );
+        }
+        return code;
+    }
+
+    /**
+     * Write the project into the reactor.
+     * @param farea The reactor
+     * @throws IOException If fails
+     */
+    private static void project(final Farea farea) throws IOException {
+        farea.files().file("src/main/java/simple/Hello.java").write(
+            String.join(
+                "\n",
+                "package simple;",
+                "public final class Hello {",
+                "  public static String hello() { return \"Hello, world!\"; }",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        farea.files().file("src/test/java/simple/HelloTest.java").write(
+            String.join(
+                "\n",
+                "package simple;",
+                "final class HelloTest {",
+                "  @org.junit.jupiter.api.Test",
+                "  void works() {",
+                "    org.junit.jupiter.api.Assertions.assertNotNull(Hello.hello());",
+                "  }",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        if (!farea.files().file("pom.xml").exists()) {
+            farea.dependencies()
+                .append("org.junit.jupiter", "junit-jupiter-engine", "5.12.1")
+                .scope("test");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link RequisiteMatcher}, over logs of different sizes.
+ *
+ * @since 0.16.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequisiteMatcherBench {
+
+    /**
+     * How many lines are in the log.
+     */
+    @Param({"100", "10000", "100000"})
+    public int lines;
+
+    /**
+     * Temporary directory.
+     */
+    private Path temp;
+
+    /**
+     * The log.
+     */
+    private Requisite log;
+
+    /**
+     * Make a log.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.temp = Files.createTempDirectory("jmh");
+        final StringBuilder text = new StringBuilder(0);
+        for (int idx = 0; idx < this.lines; ++idx) {
+            text.append(String.format("[INFO] Line number %d of the log%n", idx));
+        }
+        text.append("[INFO] BUILD SUCCESS\n");
+        this.log = new DtRequisite(this.temp, "log.txt").write(
+            text.toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Delete the temporary directory.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        new DtRequisite(this.temp.getParent(), this.temp.getFileName().toString()).delete();
+    }
+
+    /**
+     * Match a successful log.
+     * @return TRUE if matches
+     */
+    @Benchmark
+    public boolean matchesSuccess() {
+        return new RequisiteMatcher()
+            .with("BUILD SUCCESS")
+            .without("BUILD FAILURE")
+            .matches(this.log);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link DtRequisite#save(Path)}, for large trees of files.
+ *
+ * @since 0.16.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveBench {
+
+    /**
+     * How many files are in the tree.
+     */
+    @Param({"10", "1000"})
+    public int files;
+
+    /**
+     * Size of each file, in bytes.
+     */
+    @Param({"1024", "65536"})
+    public int size;
+
+    /**
+     * Temporary directory.
+     */
+    private Path temp;
+
+    /**
+     * Make a tree of files.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.temp = Files.createTempDirectory("jmh");
+        final byte[] body = new byte[this.size];
+        for (int idx = 0; idx < this.files; ++idx) {
+            new DtRequisite(this.temp, String.format("src/d%d/f%d.txt", idx % 20, idx))
+                .write(body);
+        }
+    }
+
+    /**
+     * Delete the temporary directory.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        new DtRequisite(this.temp.getParent(), this.temp.getFileName().toString()).delete();
+    }
+
+    /**
+     * Save the tree.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void savesTree() throws IOException {
+        new DtRequisite(this.temp, "home/dst").save(this.temp.resolve("src"));
+    }
+
+    /**
+     * Hard-link the tree.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void linksTree() throws IOException {
+        new DtRequisite(this.temp, "home/lnk").link(this.temp.resolve("src"));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+
+/**
+ * ZIP archive in the reactor, like a JAR, inspected without being extracted.
+ *
+ * <p>Only the central directory of the archive is read when it's opened,
+ * while the content of entries is read on demand, one by one. Thus,
+ * checking a big archive takes as much time as its list of entries
+ * requires, no matter how big the entries are:</p>
+ *
+ * <pre>
+ * try (Archive jar = farea.files().file("target/foo-0.0.1.jar").archive()) {
+ *   assert jar.contains("META-INF/maven/plugin.xml");
+ *   assert jar.size("com/example/Foo.class") &gt; 0L;
+ * }
+ * </pre>
+ *
+ * <p>Names of entries are the same as inside the archive, with forward
+ * slashes and without the leading slash, for example
+ * {@code "com/example/Foo.class"}. Directories end with a slash.</p>
+ *
+ * @since 0.16.0
+ */
+public interface Archive extends Closeable {
+
+    /**
+     * Names of all entries.
+     * @return Names, in the order of the archive
+     */
+    Collection<String> entries();
+
+    /**
+     * The entry exists?
+     * @param name The name of the entry
+     * @return TRUE if it exists
+     */
+    boolean contains(String name);
+
+    /**
+     * Uncompressed size of the entry.
+     * @param name The name of the entry
+     * @return Size, in bytes
+     */
+    long size(String name);
+
+    /**
+     * Open the entry for reading, without extracting it to the disk.
+     * @param name The name of the entry
+     * @return The stream, which must be closed after use
+     * @throws IOException If fails
+     */
+    InputStream open(String name) throws IOException;
+
+    /**
+     * Read the content of the entry, in UTF-8.
+     * @param name The name of the entry
+     * @return The content
+     * @throws IOException If fails
+     */
+    String content(String name) throws IOException;
+}
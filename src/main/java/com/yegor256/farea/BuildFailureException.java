@@ -5,6 +5,7 @@
 package com.yegor256.farea;
 
 import java.io.IOException;
+import java.util.Collection;
 
 /**
  * When build fails.
@@ -30,6 +31,23 @@ public final class BuildFailureException extends IOException {
         this(String.format("build failed with exit code 0x%04x", code), code);
     }
 
+    /**
+     * Ctor.
+     * @param code The exit code of Maven build
+     * @param tail The last lines of the Maven log
+     * @since 0.16.0
+     */
+    public BuildFailureException(final int code, final Collection<String> tail) {
+        this(
+            String.format(
+                "build failed with exit code 0x%04x, the last %d line(s) of the log:%n  %s",
+                code, tail.size(),
+                String.join(String.format("%n  "), tail)
+            ),
+            code
+        );
+    }
+
     /**
      * Ctor.
      * @param message The exception message
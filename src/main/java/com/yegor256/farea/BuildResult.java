@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Result of a single Maven build.
+ *
+ * <p>It is returned by {@link Farea#exec(String...)} and is also available
+ * for every previous build, through {@link History#result(int)}:</p>
+ *
+ * <pre>
+ * farea.withChanges();
+ * BuildResult result = farea.exec("compile");
+ * assert result.code() == 0;
+ * assert result.wall().getSeconds() &lt; 60;
+ * assert result.usage().threads() &lt; 100;
+ * assert result.index().mojos().size() &gt; 0;
+ * assert result.changes().added().contains("target/classes/Foo.class");
+ * </pre>
+ *
+ * <p>Heavy views, like the {@link #index()} or the {@link #profile()}, are computed
+ * only when requested, and only once.</p>
+ *
+ * @since 0.16.0
+ */
+public interface BuildResult {
+
+    /**
+     * Exit code of the Maven process.
+     * @return The code, zero means success
+     */
+    int code();
+
+    /**
+     * Wall-clock time of the build.
+     * @return The duration
+     */
+    Duration wall();
+
+    /**
+     * CPU time consumed by the Maven process and all its children.
+     *
+     * <p>It is sampled while the build is running, that's why
+     * it may be slightly less than the real value.</p>
+     *
+     * @return The duration
+     */
+    Duration cpu();
+
+    /**
+     * Resources consumed by the Maven process and all its children.
+     * @return The usage
+     */
+    Usage usage();
+
+    /**
+     * The log of the build.
+     * @return The log
+     * @throws IOException If fails
+     */
+    Requisite log() throws IOException;
+
+    /**
+     * Index of the log, parsed on the first call.
+     * @return The index
+     * @throws IOException If fails
+     */
+    LogIndex index() throws IOException;
+
+    /**
+     * Files added, modified, and deleted by the build.
+     *
+     * <p>Snapshots of the reactor are taken right before the build and
+     * right after it, only if {@link Farea#withChanges()} was called.
+     * Otherwise, this method throws {@link IllegalStateException}. This
+     * information is not available for the results restored from
+     * the {@link History}.</p>
+     *
+     * @return Changes in the reactor
+     * @throws IOException If fails
+     */
+    Changes changes() throws IOException;
+
+    /**
+     * Profile of the Maven JVM, recorded by JFR.
+     *
+     * <p>It is available only if {@link Farea#withJfr()} was called
+     * before the build.</p>
+     *
+     * @return The profile
+     * @throws IOException If fails
+     */
+    Profile profile() throws IOException;
+}
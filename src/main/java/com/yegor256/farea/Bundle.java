@@ -0,0 +1,707 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Home of a reactor, packed into an archive or unpacked from it.
+ *
+ * <p>ZIP, TAR, and gzip-ed TAR archives are supported. The format of
+ * an archive being unpacked is detected by its first bytes, while the
+ * format of an archive being packed is detected by the extension
+ * of the file: {@code .zip}, {@code .tar}, {@code .tar.gz},
+ * or {@code .tgz}. Both operations are streaming: files go through
+ * a small buffer, one by one, and are never kept in memory.</p>
+ *
+ * <p>TAR archives are read and written in the POSIX ustar format,
+ * with GNU and PAX extensions for long names, since the JDK doesn't
+ * have them. Where the file system supports POSIX permissions, they
+ * are kept in TAR archives and restored for files (not directories),
+ * which keeps {@code mvnw} and other scripts executable. Symbolic links
+ * are kept in TAR archives as links, while hard links in them are
+ * skipped. Entries at or inside symbolic links, which were unpacked from
+ * the same archive, are rejected, since they may point outside of the home.
+ * ZIP archives keep neither permissions nor links: packing a home with
+ * a symbolic link into a ZIP archive fails.</p>
+ *
+ * @since 0.16.0
+ */
+final class Bundle {
+
+    /**
+     * Size of a TAR block.
+     */
+    private static final int BLOCK = 512;
+
+    /**
+     * Max length of a name in a TAR header.
+     */
+    private static final int NAME = 100;
+
+    /**
+     * Max size of a file, which fits into octal size field of TAR.
+     */
+    private static final long OCTAL = 077_777_777_777L;
+
+    /**
+     * The home.
+     */
+    private final Path home;
+
+    /**
+     * Ctor.
+     * @param dir The home
+     */
+    Bundle(final Path dir) {
+        this.home = dir;
+    }
+
+    /**
+     * Unpack the archive into the home.
+     * @param input The archive, which is not closed
+     * @return The volume unpacked
+     * @throws IOException If fails
+     */
+    Volume unpack(final InputStream input) throws IOException {
+        final InputStream buffered = new BufferedInputStream(input);
+        final byte[] magic = Bundle.peek(buffered, 2);
+        final Volume volume;
+        if (magic[0] == (byte) 0x1f && magic[1] == (byte) 0x8b) {
+            volume = this.unpack(new GZIPInputStream(buffered));
+        } else if (magic[0] == 'P' && magic[1] == 'K') {
+            volume = this.unzip(new ZipInputStream(buffered));
+        } else {
+            volume = this.untar(buffered);
+        }
+        return volume;
+    }
+
+    /**
+     * Pack the home into the archive, except the {@code .farea} directory.
+     * @param target The archive to create
+     * @return The volume packed
+     * @throws IOException If fails
+     */
+    Volume pack(final Path target) throws IOException {
+        final String name = target.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        if (target.toAbsolutePath().getParent().toFile().mkdirs()) {
+            Logger.debug(this, "Directory created for %[file]s", target);
+        }
+        Files.deleteIfExists(target);
+        final Volume volume;
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(target))) {
+            if (name.endsWith(".zip")) {
+                try (ZipOutputStream zip = new ZipOutputStream(output)) {
+                    volume = this.zip(zip);
+                }
+            } else if (name.endsWith(".tar.gz") || name.endsWith(".tgz")) {
+                try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                    volume = this.tar(gzip);
+                }
+            } else if (name.endsWith(".tar")) {
+                volume = this.tar(output);
+            } else {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Unknown format of %s, only .zip, .tar, .tar.gz, and .tgz are supported",
+                        target
+                    )
+                );
+            }
+        }
+        return volume;
+    }
+
+    /**
+     * Unpack ZIP.
+     * @param zip The stream
+     * @return The volume unpacked
+     * @throws IOException If fails
+     */
+    private Volume unzip(final ZipInputStream zip) throws IOException {
+        long files = 0L;
+        long bytes = 0L;
+        while (true) {
+            final ZipEntry entry = zip.getNextEntry();
+            if (entry == null) {
+                break;
+            }
+            final Path path = this.inside(entry.getName());
+            if (entry.isDirectory()) {
+                Files.createDirectories(path);
+            } else {
+                Files.createDirectories(path.getParent());
+                bytes += Files.copy(zip, path, StandardCopyOption.REPLACE_EXISTING);
+                ++files;
+            }
+        }
+        return new Volume(files, bytes);
+    }
+
+    /**
+     * Unpack TAR.
+     * @param input The stream
+     * @return The volume unpacked
+     * @throws IOException If fails
+     */
+    private Volume untar(final InputStream input) throws IOException {
+        final byte[] header = new byte[Bundle.BLOCK];
+        final boolean posix = this.home.getFileSystem()
+            .supportedFileAttributeViews().contains("posix");
+        final Collection<Path> links = new HashSet<>(0);
+        long files = 0L;
+        long bytes = 0L;
+        String pending = "";
+        String target = "";
+        while (Bundle.block(input, header)) {
+            final long size = Bundle.size(header);
+            final char type = (char) header[156];
+            String name = Bundle.text(header, 0, Bundle.NAME);
+            final String prefix = Bundle.text(header, 345, 155);
+            if ("ustar".equals(Bundle.text(header, 257, 6)) && !prefix.isEmpty()) {
+                name = String.format("%s/%s", prefix, name);
+            }
+            if (!pending.isEmpty()) {
+                name = pending;
+                pending = "";
+            }
+            String link = Bundle.text(header, 157, Bundle.NAME);
+            if (!target.isEmpty()) {
+                link = target;
+                target = "";
+            }
+            if (type == 'L') {
+                pending = Bundle.longname(input, size);
+            } else if (type == 'K') {
+                target = Bundle.longname(input, size);
+            } else if (type == 'x') {
+                pending = Bundle.pax(input, size);
+            } else if (type == '5') {
+                Files.createDirectories(Bundle.unlinked(this.inside(name), links));
+            } else if (type == '2') {
+                final Path path = Bundle.unlinked(this.inside(name), links);
+                Files.createDirectories(path.getParent());
+                Files.deleteIfExists(path);
+                Files.createSymbolicLink(path, Paths.get(link));
+                links.add(path);
+            } else if (type == '0' || type == '\0' || type == '7') {
+                final Path path = Bundle.unlinked(this.inside(name), links);
+                Files.createDirectories(path.getParent());
+                Files.deleteIfExists(path);
+                try (OutputStream output = Files.newOutputStream(
+                    path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE
+                )) {
+                    Bundle.copy(input, output, size);
+                }
+                Bundle.skip(input, Bundle.padding(size));
+                final String mode = Bundle.text(header, 100, 8).trim();
+                if (posix && !mode.isEmpty()) {
+                    Files.setPosixFilePermissions(
+                        path, Bundle.permissions(Long.parseLong(mode, 8))
+                    );
+                }
+                ++files;
+                bytes += size;
+            } else {
+                Logger.debug(this, "TAR entry '%s' of type '%s' skipped", name, type);
+                Bundle.skip(input, size + Bundle.padding(size));
+            }
+        }
+        return new Volume(files, bytes);
+    }
+
+    /**
+     * Pack into ZIP.
+     * @param zip The stream
+     * @return The volume packed
+     * @throws IOException If fails
+     */
+    private Volume zip(final ZipOutputStream zip) throws IOException {
+        return this.walk(
+            (name, file, attrs) -> {
+                if (attrs.isSymbolicLink()) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "ZIP can't keep the symbolic link %s, pack into .tar instead",
+                            file
+                        )
+                    );
+                }
+                if (attrs.isDirectory()) {
+                    zip.putNextEntry(new ZipEntry(String.format("%s/", name)));
+                } else {
+                    zip.putNextEntry(new ZipEntry(name));
+                    Files.copy(file, zip);
+                }
+                zip.closeEntry();
+            }
+        );
+    }
+
+    /**
+     * Pack into TAR.
+     * @param output The stream
+     * @return The volume packed
+     * @throws IOException If fails
+     */
+    private Volume tar(final OutputStream output) throws IOException {
+        final Volume volume = this.walk(
+            (name, file, attrs) -> {
+                if (attrs.isDirectory()) {
+                    Bundle.header(output, String.format("%s/", name), "", '5', 0L, attrs);
+                } else if (attrs.isSymbolicLink()) {
+                    Bundle.header(
+                        output, name, Files.readSymbolicLink(file).toString(), '2', 0L, attrs
+                    );
+                } else {
+                    Bundle.header(output, name, "", '0', attrs.size(), attrs);
+                    Files.copy(file, output);
+                    output.write(new byte[(int) Bundle.padding(attrs.size())]);
+                }
+            }
+        );
+        output.write(new byte[Bundle.BLOCK * 2]);
+        return volume;
+    }
+
+    /**
+     * Walk the home, except the {@code .farea} directory.
+     *
+     * <p>Symbolic links are not followed, but given to the entry as
+     * they are. Only regular files are counted in the volume.</p>
+     *
+     * @param entry What to do with each entry
+     * @return The volume of files
+     * @throws IOException If fails
+     */
+    private Volume walk(final Bundle.Entry entry) throws IOException {
+        final AtomicLong files = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+        Files.walkFileTree(
+            this.home,
+            new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir,
+                    final BasicFileAttributes attrs) throws IOException {
+                    final FileVisitResult next;
+                    if (dir.equals(Bundle.this.home)) {
+                        next = FileVisitResult.CONTINUE;
+                    } else if (dir.equals(Bundle.this.home.resolve(".farea"))) {
+                        next = FileVisitResult.SKIP_SUBTREE;
+                    } else {
+                        entry.put(Bundle.this.name(dir), dir, Bundle.posix(dir, attrs));
+                        next = FileVisitResult.CONTINUE;
+                    }
+                    return next;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file,
+                    final BasicFileAttributes attrs) throws IOException {
+                    if (attrs.isRegularFile() || attrs.isSymbolicLink()) {
+                        entry.put(Bundle.this.name(file), file, Bundle.posix(file, attrs));
+                    }
+                    if (attrs.isRegularFile()) {
+                        files.incrementAndGet();
+                        bytes.addAndGet(attrs.size());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            }
+        );
+        return new Volume(files.get(), bytes.get());
+    }
+
+    /**
+     * Name of the entry in the archive.
+     * @param path The path inside the home
+     * @return The name, with forward slashes
+     */
+    private String name(final Path path) {
+        return this.home.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Resolve the name of an entry inside the home, making sure it
+     * doesn't escape it, like {@code "../../etc/passwd"}.
+     * @param name The name of the entry
+     * @return The path
+     */
+    private Path inside(final String name) {
+        final Path path = this.home.resolve(name).normalize();
+        if (!path.startsWith(this.home.normalize())) {
+            throw new IllegalArgumentException(
+                String.format("The entry '%s' is outside of %s", name, this.home)
+            );
+        }
+        return path;
+    }
+
+    /**
+     * Make sure the path is neither a symbolic link, unpacked before,
+     * nor inside it.
+     * @param path The path
+     * @param links Symbolic links unpacked so far
+     * @return The same path
+     */
+    private static Path unlinked(final Path path, final Collection<Path> links) {
+        for (final Path link : links) {
+            if (path.startsWith(link)) {
+                throw new IllegalArgumentException(
+                    String.format("The entry %s goes through the symbolic link %s", path, link)
+                );
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Read POSIX attributes of the file, if the file system supports them.
+     * @param file The file, directory, or symbolic link
+     * @param attrs Basic attributes, to use otherwise
+     * @return The attributes
+     * @throws IOException If fails
+     */
+    private static BasicFileAttributes posix(final Path file, final BasicFileAttributes attrs)
+        throws IOException {
+        BasicFileAttributes all = attrs;
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            all = Files.readAttributes(
+                file, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+            );
+        }
+        return all;
+    }
+
+    /**
+     * Mode of the TAR entry.
+     * @param type The type of the entry
+     * @param attrs Its attributes, POSIX ones if available
+     * @return The mode, like {@code 0644}
+     */
+    private static long mode(final char type, final BasicFileAttributes attrs) {
+        long mode = 0L;
+        if (attrs instanceof PosixFileAttributes) {
+            for (final PosixFilePermission perm : ((PosixFileAttributes) attrs).permissions()) {
+                mode |= 1L << (8 - perm.ordinal());
+            }
+        } else if (type == '2') {
+            mode = 0777L;
+        } else if (type == '5') {
+            mode = 0755L;
+        } else {
+            mode = 0644L;
+        }
+        return mode;
+    }
+
+    /**
+     * POSIX permissions of the mode.
+     * @param mode The mode, like {@code 0755}
+     * @return The permissions
+     */
+    private static Set<PosixFilePermission> permissions(final long mode) {
+        final Set<PosixFilePermission> perms = EnumSet.noneOf(PosixFilePermission.class);
+        for (final PosixFilePermission perm : PosixFilePermission.values()) {
+            if ((mode & 1L << (8 - perm.ordinal())) != 0L) {
+                perms.add(perm);
+            }
+        }
+        return perms;
+    }
+
+    /**
+     * Write a TAR header, with GNU long names before it, if necessary.
+     * @param output The stream
+     * @param name The name of the entry
+     * @param link The target of the symbolic link, or empty string
+     * @param type The type of the entry
+     * @param size The size of the entry
+     * @param attrs Attributes of the entry
+     * @throws IOException If fails
+     */
+    private static void header(final OutputStream output, final String name,
+        final String link, final char type, final long size, final BasicFileAttributes attrs)
+        throws IOException {
+        final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= Bundle.NAME) {
+            Bundle.longname(output, 'L', bytes, attrs);
+        }
+        final byte[] target = link.getBytes(StandardCharsets.UTF_8);
+        if (target.length >= Bundle.NAME) {
+            Bundle.longname(output, 'K', target, attrs);
+        }
+        final byte[] header = new byte[Bundle.BLOCK];
+        System.arraycopy(bytes, 0, header, 0, Math.min(bytes.length, Bundle.NAME - 1));
+        System.arraycopy(target, 0, header, 157, Math.min(target.length, Bundle.NAME - 1));
+        Bundle.octal(header, 100, 8, Bundle.mode(type, attrs));
+        Bundle.octal(header, 108, 8, 0L);
+        Bundle.octal(header, 116, 8, 0L);
+        if (size > Bundle.OCTAL) {
+            header[124] = (byte) 0x80;
+            for (int idx = 0; idx < 8; ++idx) {
+                header[135 - idx] = (byte) (size >>> (idx * 8));
+            }
+        } else {
+            Bundle.octal(header, 124, 12, size);
+        }
+        Bundle.octal(header, 136, 12, attrs.lastModifiedTime().toMillis() / 1000L);
+        Arrays.fill(header, 148, 156, (byte) ' ');
+        header[156] = (byte) type;
+        System.arraycopy("ustar\u000000".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 8);
+        long sum = 0L;
+        for (final byte bte : header) {
+            sum += bte & 0xff;
+        }
+        Bundle.octal(header, 148, 7, sum);
+        output.write(header);
+    }
+
+    /**
+     * Write GNU long name or long link target, as a separate entry.
+     * @param output The stream
+     * @param type The type, either {@code L} or {@code K}
+     * @param bytes The name
+     * @param attrs Attributes of the entry
+     * @throws IOException If fails
+     */
+    private static void longname(final OutputStream output, final char type,
+        final byte[] bytes, final BasicFileAttributes attrs) throws IOException {
+        final byte[] content = Arrays.copyOf(bytes, bytes.length + 1);
+        Bundle.header(output, "././@LongLink", "", type, content.length, attrs);
+        output.write(content);
+        output.write(new byte[(int) Bundle.padding(content.length)]);
+    }
+
+    /**
+     * Put an octal number into the header, with a trailing NUL.
+     * @param header The header
+     * @param pos Position of the field
+     * @param len Length of the field
+     * @param value The number
+     */
+    private static void octal(final byte[] header, final int pos, final int len,
+        final long value) {
+        final String txt = String.format("%0" + (len - 1) + "o", value);
+        System.arraycopy(txt.getBytes(StandardCharsets.US_ASCII), 0, header, pos, len - 1);
+        header[pos + len - 1] = 0;
+    }
+
+    /**
+     * Size of the TAR entry, in octal or in base-256 format.
+     * @param header The header
+     * @return Size, in bytes
+     */
+    private static long size(final byte[] header) {
+        long size = 0L;
+        if ((header[124] & 0x80) == 0) {
+            final String txt = Bundle.text(header, 124, 12).trim();
+            if (!txt.isEmpty()) {
+                size = Long.parseLong(txt, 8);
+            }
+        } else {
+            for (int idx = 125; idx < 136; ++idx) {
+                size = (size << 8) | (header[idx] & 0xff);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Read a NUL-terminated text field from the header.
+     * @param header The header
+     * @param pos Position of the field
+     * @param len Max length of the field
+     * @return The text
+     */
+    private static String text(final byte[] header, final int pos, final int len) {
+        int end = pos;
+        while (end < pos + len && header[end] != 0) {
+            ++end;
+        }
+        return new String(header, pos, end - pos, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read GNU long name.
+     * @param input The stream
+     * @param size Size of the entry
+     * @return The name
+     * @throws IOException If fails
+     */
+    private static String longname(final InputStream input, final long size)
+        throws IOException {
+        final byte[] data = Bundle.read(input, size);
+        return Bundle.text(data, 0, data.length);
+    }
+
+    /**
+     * Read the path from PAX extended header.
+     * @param input The stream
+     * @param size Size of the entry
+     * @return The path, or empty string if it's absent
+     * @throws IOException If fails
+     */
+    private static String pax(final InputStream input, final long size) throws IOException {
+        String path = "";
+        for (final String rec : new String(Bundle.read(input, size), StandardCharsets.UTF_8)
+            .split("\n")) {
+            final int eql = rec.indexOf('=');
+            final int space = rec.indexOf(' ');
+            if (eql > 0 && space > 0 && "path".equals(rec.substring(space + 1, eql))) {
+                path = rec.substring(eql + 1);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Read the entry into memory, together with its padding.
+     *
+     * <p>Only used for small entries, like long names.</p>
+     *
+     * @param input The stream
+     * @param size Size of the entry
+     * @return The content
+     * @throws IOException If fails
+     */
+    private static byte[] read(final InputStream input, final long size) throws IOException {
+        if (size > 1024L * 1024L) {
+            throw new IOException(String.format("TAR header is too big: %d bytes", size));
+        }
+        final byte[] data = new byte[(int) size];
+        if (input.readNBytes(data, 0, data.length) < data.length) {
+            throw new EOFException("TAR header is truncated");
+        }
+        Bundle.skip(input, Bundle.padding(size));
+        return data;
+    }
+
+    /**
+     * Read next TAR header.
+     * @param input The stream
+     * @param header The header to fill
+     * @return TRUE if read, FALSE if it's the end of the archive
+     * @throws IOException If fails
+     */
+    private static boolean block(final InputStream input, final byte[] header)
+        throws IOException {
+        final int len = input.readNBytes(header, 0, header.length);
+        boolean found = false;
+        for (final byte bte : header) {
+            if (bte != 0) {
+                found = true;
+                break;
+            }
+        }
+        if (found && len < header.length) {
+            throw new EOFException("TAR archive is truncated");
+        }
+        return found;
+    }
+
+    /**
+     * Copy exactly this number of bytes.
+     * @param input The stream to read from
+     * @param output The stream to write to
+     * @param size How many bytes
+     * @throws IOException If fails
+     */
+    private static void copy(final InputStream input, final OutputStream output,
+        final long size) throws IOException {
+        final byte[] buf = new byte[64 * 1024];
+        long left = size;
+        while (left > 0L) {
+            final int len = input.read(buf, 0, (int) Math.min(buf.length, left));
+            if (len < 0) {
+                throw new EOFException("TAR entry is truncated");
+            }
+            output.write(buf, 0, len);
+            left -= len;
+        }
+    }
+
+    /**
+     * Skip exactly this number of bytes.
+     * @param input The stream
+     * @param size How many bytes
+     * @throws IOException If fails
+     */
+    private static void skip(final InputStream input, final long size) throws IOException {
+        Bundle.copy(input, OutputStream.nullOutputStream(), size);
+    }
+
+    /**
+     * Padding of the entry, up to the full block.
+     * @param size Size of the entry
+     * @return Size of the padding
+     */
+    private static long padding(final long size) {
+        return (Bundle.BLOCK - size % Bundle.BLOCK) % Bundle.BLOCK;
+    }
+
+    /**
+     * Look at the first bytes of the stream, without consuming them.
+     * @param input The stream
+     * @param len How many bytes
+     * @return The bytes
+     * @throws IOException If fails
+     */
+    private static byte[] peek(final InputStream input, final int len) throws IOException {
+        input.mark(len);
+        final byte[] bytes = new byte[len];
+        input.readNBytes(bytes, 0, len);
+        input.reset();
+        return bytes;
+    }
+
+    /**
+     * Entry to put into an archive.
+     *
+     * @since 0.16.0
+     */
+    private interface Entry {
+        /**
+         * Put it.
+         * @param name The name of the entry
+         * @param file The file or directory
+         * @param attrs Its attributes
+         * @throws IOException If fails
+         */
+        void put(String name, Path file, BasicFileAttributes attrs) throws IOException;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.util.Collection;
+
+/**
+ * Files changed in the reactor by a Maven build.
+ *
+ * <p>All paths are relative to the home directory of the reactor
+ * and use forward slashes, for example {@code "target/classes/Foo.class"}.
+ * The {@code log.txt} file and the {@code .farea} directory are
+ * never included.</p>
+ *
+ * <pre>
+ * Changes changes = farea.exec("compile").changes();
+ * assert changes.added().contains("target/classes/Foo.class");
+ * </pre>
+ *
+ * @since 0.16.0
+ */
+public interface Changes {
+
+    /**
+     * Files that didn't exist before the build.
+     * @return Paths, sorted
+     */
+    Collection<String> added();
+
+    /**
+     * Files that existed before the build and were modified by it.
+     * @return Paths, sorted
+     */
+    Collection<String> modified();
+
+    /**
+     * Files that existed before the build and were deleted by it.
+     * @return Paths, sorted
+     */
+    Collection<String> deleted();
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of cleaning the reactor, by {@link Farea#clean()}.
+ *
+ * @since 0.16.0
+ */
+@Name("com.yegor256.farea.Clean")
+@Label("Reactor Cleaning")
+@Category("Farea")
+@Description("All files deleted from the home of the reactor")
+final class CleanEvent extends Event {
+
+    /**
+     * The home.
+     */
+    @Label("Path")
+    private final String path;
+
+    /**
+     * How many files and directories deleted.
+     */
+    @Label("Files")
+    private long files;
+
+    /**
+     * Ctor.
+     * @param home The home
+     */
+    CleanEvent(final Path home) {
+        super();
+        this.path = home.toString();
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param total Files deleted
+     */
+    void done(final long total) {
+        if (this.shouldCommit()) {
+            this.files = total;
+            this.commit();
+        }
+    }
+}
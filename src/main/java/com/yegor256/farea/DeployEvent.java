@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of deploying the plugin to the local Maven repository,
+ * by {@link Itself#deploy(Path)}.
+ *
+ * @since 0.16.0
+ */
+@Name("com.yegor256.farea.Deploy")
+@Label("Plugin Deployment")
+@Category("Farea")
+@Description("The plugin under test installed into the local Maven repository")
+final class DeployEvent extends Event {
+
+    /**
+     * The local repository.
+     */
+    @Label("Repository")
+    private final String path;
+
+    /**
+     * The version deployed.
+     */
+    @Label("Version")
+    private String version;
+
+    /**
+     * Ctor.
+     * @param local The local repository
+     */
+    DeployEvent(final Path local) {
+        super();
+        this.path = local.toString();
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param ver The version deployed
+     */
+    void done(final String ver) {
+        if (this.shouldCommit()) {
+            this.version = ver;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * ZIP archive, read through {@link ZipFile}.
+ *
+ * <p>The {@link ZipFile} reads the central directory only, at the end of
+ * the file, and then seeks to entries when they are requested.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class DtArchive implements Archive {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * The ZIP.
+     */
+    private final ZipFile zip;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @throws IOException If fails
+     */
+    DtArchive(final Path file) throws IOException {
+        this.path = file;
+        this.zip = new ZipFile(file.toFile());
+        Logger.debug(
+            this, "Archive %[file]s opened, %d entries",
+            file, this.zip.size()
+        );
+    }
+
+    @Override
+    public Collection<String> entries() {
+        return Collections.unmodifiableList(
+            this.zip.stream().map(ZipEntry::getName).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public boolean contains(final String name) {
+        return this.zip.getEntry(name) != null;
+    }
+
+    @Override
+    public long size(final String name) {
+        return this.entry(name).getSize();
+    }
+
+    @Override
+    public InputStream open(final String name) throws IOException {
+        return this.zip.getInputStream(this.entry(name));
+    }
+
+    @Override
+    public String content(final String name) throws IOException {
+        try (InputStream input = this.open(name)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.zip.close();
+    }
+
+    /**
+     * Find the entry.
+     * @param name The name of it
+     * @return The entry
+     */
+    private ZipEntry entry(final String name) {
+        final ZipEntry entry = this.zip.getEntry(name);
+        if (entry == null) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "There is no '%s' entry in %s, among %d entries",
+                    name, this.path, this.zip.size()
+                )
+            );
+        }
+        return entry;
+    }
+}
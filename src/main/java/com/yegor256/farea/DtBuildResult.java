@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Result of a Maven build, recorded in the {@link History}.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class DtBuildResult implements BuildResult {
+
+    /**
+     * The history, where the build is recorded.
+     */
+    private final DtHistory history;
+
+    /**
+     * The number of the run in the history.
+     */
+    private final int run;
+
+    /**
+     * Exit code.
+     */
+    private final int exit;
+
+    /**
+     * Wall-clock time.
+     */
+    private final Duration elapsed;
+
+    /**
+     * Resources consumed.
+     */
+    private final Usage consumed;
+
+    /**
+     * Index of the log.
+     */
+    private final Once<LogIndex> idx;
+
+    /**
+     * Changes in the reactor.
+     */
+    private final Once<Changes> diff;
+
+    /**
+     * Profile of the Maven JVM.
+     */
+    private final Once<Profile> jfr;
+
+    /**
+     * Ctor.
+     * @param hist The history
+     * @param num The number of the run
+     * @param code Exit code
+     * @param wall Wall-clock time
+     * @param usage Resources consumed
+     * @param changes Source of changes in the reactor
+     */
+    DtBuildResult(final DtHistory hist, final int num, final int code,
+        final Duration wall, final Usage usage, final Once.Source<Changes> changes) {
+        this.history = hist;
+        this.run = num;
+        this.exit = code;
+        this.elapsed = wall;
+        this.consumed = usage;
+        this.idx = new Once<>(() -> new DtLogIndex(hist.log(num).path()));
+        this.diff = new Once<>(changes);
+        this.jfr = new Once<>(() -> new DtProfile(hist.jfr(num)));
+    }
+
+    @Override
+    public int code() {
+        return this.exit;
+    }
+
+    @Override
+    public Duration wall() {
+        return this.elapsed;
+    }
+
+    @Override
+    public Duration cpu() {
+        return this.consumed.cpu();
+    }
+
+    @Override
+    public Usage usage() {
+        return this.consumed;
+    }
+
+    @Override
+    public Requisite log() throws IOException {
+        return this.history.log(this.run);
+    }
+
+    @Override
+    public LogIndex index() throws IOException {
+        return this.idx.value();
+    }
+
+    @Override
+    public Changes changes() throws IOException {
+        return this.diff.value();
+    }
+
+    @Override
+    public Profile profile() throws IOException {
+        return this.jfr.value();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Difference between two snapshots of a reactor.
+ *
+ * @since 0.16.0
+ */
+final class DtChanges implements Changes {
+
+    /**
+     * Files before, with their signatures.
+     */
+    private final Map<String, String> before;
+
+    /**
+     * Files after, with their signatures.
+     */
+    private final Map<String, String> after;
+
+    /**
+     * Ctor.
+     * @param prev Files before, made by {@link Snapshot#files()}
+     * @param next Files after, made by {@link Snapshot#files()}
+     */
+    DtChanges(final Map<String, String> prev, final Map<String, String> next) {
+        this.before = prev;
+        this.after = next;
+    }
+
+    @Override
+    public Collection<String> added() {
+        return this.after.keySet().stream()
+            .filter(file -> !this.before.containsKey(file))
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Override
+    public Collection<String> modified() {
+        return this.after.entrySet().stream()
+            .filter(ent -> this.before.containsKey(ent.getKey()))
+            .filter(ent -> !Objects.equals(this.before.get(ent.getKey()), ent.getValue()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Override
+    public Collection<String> deleted() {
+        return this.before.keySet().stream()
+            .filter(file -> !this.after.containsKey(file))
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import com.jcabi.log.VerboseRunnable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * History of runs, stored in the {@code .farea/runs} directory.
+ *
+ * <p>Each run gets its own numbered directory, where the log
+ * the exit code of Maven, and the resources it consumed are kept. When compression is enabled,
+ * logs of all previous runs are gzip-ed in a background thread, as soon
+ * as a new run starts. They are un-zipped back on demand.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class DtHistory implements History {
+
+    /**
+     * Background compressor of old logs.
+     */
+    private static final ExecutorService GZIP = Executors.newSingleThreadExecutor(
+        runnable -> {
+            final Thread thread = new Thread(runnable, "farea-gzip");
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+
+    /**
+     * Logs being compressed right now.
+     */
+    private static final ConcurrentMap<Path, Future<?>> PENDING =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Home.
+     */
+    private final Path home;
+
+    /**
+     * Compress old logs?
+     */
+    private final boolean gzip;
+
+    /**
+     * Ctor.
+     * @param dir The home dir
+     */
+    DtHistory(final Path dir) {
+        this(dir, false);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The home dir
+     * @param compress Compress logs of previous runs?
+     */
+    DtHistory(final Path dir, final boolean compress) {
+        this.home = dir;
+        this.gzip = compress;
+    }
+
+    @Override
+    public int size() throws IOException {
+        int total = 0;
+        final Path runs = this.runs();
+        if (runs.toFile().isDirectory()) {
+            try (Stream<Path> list = Files.list(runs)) {
+                total = list
+                    .map(Path::getFileName)
+                    .map(Path::toString)
+                    .filter(name -> name.matches("[0-9]+"))
+                    .mapToInt(Integer::parseInt)
+                    .max()
+                    .orElse(0);
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public Requisite log(final int run) throws IOException {
+        final Path dir = this.dir(run);
+        final Path log = dir.resolve("log.txt");
+        DtHistory.await(log);
+        final Path gz = dir.resolve("log.txt.gz");
+        if (!log.toFile().exists() && gz.toFile().exists()) {
+            final Path temp = dir.resolve("log.txt.tmp");
+            try (InputStream input = new GZIPInputStream(Files.newInputStream(gz))) {
+                Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(temp, log, StandardCopyOption.REPLACE_EXISTING);
+            Logger.debug(this, "Log of run #%d restored from %[file]s", run, gz);
+        }
+        return new DtRequisite(this.home, this.home.relativize(log).toString());
+    }
+
+    @Override
+    public int code(final int run) throws IOException {
+        return this.result(run).code();
+    }
+
+    @Override
+    public BuildResult result(final int run) throws IOException {
+        final Properties props = new Properties();
+        try (InputStream input = Files.newInputStream(
+            this.dir(run).resolve("result.properties")
+        )) {
+            props.load(input);
+        }
+        return new DtBuildResult(
+            this, run,
+            Integer.parseInt(props.getProperty("code")),
+            Duration.parse(props.getProperty("wall")),
+            new DtUsage(props),
+            () -> {
+                throw new IllegalStateException(
+                    String.format(
+                        "Changes of run #%d are only available right after Farea.exec()",
+                        run
+                    )
+                );
+            }
+        );
+    }
+
+    /**
+     * Start a new run.
+     * @return The directory of the new run
+     * @throws IOException If fails
+     */
+    Path next() throws IOException {
+        final int total = this.size();
+        if (this.gzip) {
+            for (int run = 1; run <= total; ++run) {
+                this.compress(this.runs().resolve(Integer.toString(run)));
+            }
+        }
+        int run = total + 1;
+        while (true) {
+            final Path dir = this.runs().resolve(Integer.toString(run));
+            if (dir.toFile().mkdirs()) {
+                Logger.debug(this, "Run #%d started at %[file]s", run, dir);
+                return dir;
+            }
+            ++run;
+        }
+    }
+
+    /**
+     * JFR recording of the run.
+     * @param run The number of the run, starting from one
+     * @return The path of the recording, which may be absent
+     * @throws IOException If fails
+     */
+    Path jfr(final int run) throws IOException {
+        return this.dir(run).resolve("maven.jfr");
+    }
+
+    /**
+     * Record the results of a finished run.
+     * @param dir The directory of the run, as returned by {@link #next()}
+     * @param log The log of Maven
+     * @param code The exit code of Maven
+     * @param usage Resources used by Maven
+     * @param wall Wall-clock time of the build
+     * @param changes Source of changes made by the build
+     * @return The result of the build
+     * @throws IOException If fails
+     */
+    BuildResult record(final Path dir, final Path log, final int code,
+        final DtUsage usage, final Duration wall,
+        final Once.Source<Changes> changes) throws IOException {
+        if (log.toFile().exists()) {
+            final Path target = dir.resolve("log.txt");
+            try {
+                Files.createLink(target, log);
+            } catch (final UnsupportedOperationException | IOException ex) {
+                Files.copy(log, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        final Properties props = new Properties();
+        props.setProperty("code", Integer.toString(code));
+        props.setProperty("wall", wall.toString());
+        usage.save(props);
+        try (OutputStream output = Files.newOutputStream(dir.resolve("result.properties"))) {
+            props.store(output, "The result of the Maven build");
+        }
+        return new DtBuildResult(
+            this, Integer.parseInt(dir.getFileName().toString()),
+            code, wall, usage, changes
+        );
+    }
+
+    private void compress(final Path dir) {
+        final Path log = dir.resolve("log.txt");
+        if (log.toFile().exists() && !dir.resolve("log.txt.gz").toFile().exists()) {
+            DtHistory.PENDING.computeIfAbsent(
+                log,
+                key -> DtHistory.GZIP.submit(
+                    new VerboseRunnable(
+                        () -> {
+                            try {
+                                return DtHistory.deflate(log);
+                            } finally {
+                                DtHistory.PENDING.remove(log);
+                            }
+                        },
+                        true
+                    )
+                )
+            );
+        }
+    }
+
+    private Path dir(final int run) throws IOException {
+        final Path dir = this.runs().resolve(Integer.toString(run));
+        if (run < 1 || !dir.toFile().isDirectory()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "There is no run #%d in %s, only %d run(s) recorded so far",
+                    run, this.home, this.size()
+                )
+            );
+        }
+        return dir;
+    }
+
+    private Path runs() {
+        return this.home.resolve(".farea").resolve("runs");
+    }
+
+    private static Path deflate(final Path log) throws IOException {
+        final Path gz = log.resolveSibling("log.txt.gz");
+        final Path temp = log.resolveSibling("log.txt.gz.tmp");
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            Files.copy(log, output);
+        }
+        Files.move(temp, gz, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(log);
+        Logger.debug(
+            DtHistory.class, "Log compressed to %[file]s (%[size]s)",
+            gz, gz.toFile().length()
+        );
+        return gz;
+    }
+
+    private static void await(final Path log) {
+        try {
+            DtHistory.PENDING.getOrDefault(
+                log, CompletableFuture.completedFuture(log)
+            ).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
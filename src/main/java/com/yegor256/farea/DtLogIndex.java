@@ -0,0 +1,278 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Index of a Maven log.
+ *
+ * <p>The log is read line by line, only once, on the first call
+ * to any of the methods. It is never loaded into memory as a whole.</p>
+ *
+ * <p>Every line is attributed to the module, which was built when it was
+ * printed: either the one from the latest {@code "Building ... [2/4]"}
+ * header, or the one from the latest mojo execution header, which ends
+ * with {@code "@ <artifactId>"}. Only numbers of lines are kept, in
+ * ranges, while the lines themselves are read again by
+ * {@link #slice(String)}. When modules are built in parallel, with
+ * {@code -T}, their lines are interleaved in the log, and then some
+ * lines may be attributed to a wrong module.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class DtLogIndex implements LogIndex {
+
+    /**
+     * Mojo execution header.
+     */
+    private static final Pattern MOJO = Pattern.compile(
+        "^\\[INFO] --- (.+) ---$"
+    );
+
+    /**
+     * The header of a module in a multi-module build.
+     */
+    private static final Pattern BUILDING = Pattern.compile(
+        "^\\[INFO] Building (.+) \\S+ +\\[\\d+/\\d+]$"
+    );
+
+    /**
+     * The header of the reactor summary.
+     */
+    private static final Pattern SUMMARY = Pattern.compile(
+        "^\\[INFO] Reactor Summary.*:$"
+    );
+
+    /**
+     * Module in the reactor summary.
+     */
+    private static final Pattern MODULE = Pattern.compile(
+        "^\\[INFO] (.+?) \\.+ (SUCCESS|FAILURE|SKIPPED)( \\[.*])?$"
+    );
+
+    /**
+     * The log.
+     */
+    private final Path log;
+
+    /**
+     * Mojo executions.
+     */
+    private final Collection<String> executions;
+
+    /**
+     * Warnings.
+     */
+    private final Collection<String> warns;
+
+    /**
+     * Errors.
+     */
+    private final Collection<String> errs;
+
+    /**
+     * Statuses of modules.
+     */
+    private final Map<String, String> statuses;
+
+    /**
+     * Ranges of numbers of lines, from and to, inclusive, by modules.
+     */
+    private final Map<String, List<long[]>> ranges;
+
+    /**
+     * Inside the reactor summary?
+     */
+    private boolean summary;
+
+    /**
+     * The module being built, or NULL if none.
+     */
+    private String current;
+
+    /**
+     * Total number of lines seen.
+     */
+    private long total;
+
+    /**
+     * Parsed already?
+     */
+    private boolean parsed;
+
+    /**
+     * Ctor.
+     * @param file The log
+     */
+    DtLogIndex(final Path file) {
+        this.log = file;
+        this.executions = new ArrayList<>(0);
+        this.warns = new ArrayList<>(0);
+        this.errs = new ArrayList<>(0);
+        this.statuses = new LinkedHashMap<>(0);
+        this.ranges = new HashMap<>(0);
+    }
+
+    @Override
+    public long lines() {
+        this.parse();
+        synchronized (this.executions) {
+            return this.total;
+        }
+    }
+
+    @Override
+    public Collection<String> mojos() {
+        this.parse();
+        return Collections.unmodifiableCollection(this.executions);
+    }
+
+    @Override
+    public Collection<String> warnings() {
+        this.parse();
+        return Collections.unmodifiableCollection(this.warns);
+    }
+
+    @Override
+    public Collection<String> errors() {
+        this.parse();
+        return Collections.unmodifiableCollection(this.errs);
+    }
+
+    @Override
+    public Map<String, String> modules() {
+        this.parse();
+        return Collections.unmodifiableMap(this.statuses);
+    }
+
+    /**
+     * Lines of the log, which belong to the module.
+     * @param module Name of the module
+     * @return Lines, separated by line separators, or NULL if there are none
+     */
+    String slice(final String module) {
+        this.parse();
+        final List<long[]> lines;
+        synchronized (this.executions) {
+            lines = this.ranges.get(module);
+        }
+        String slice = null;
+        if (lines != null) {
+            final StringJoiner out = new StringJoiner(System.lineSeparator());
+            try (BufferedReader reader = Files.newBufferedReader(
+                this.log, StandardCharsets.UTF_8
+            )) {
+                long num = 0L;
+                for (final long[] range : lines) {
+                    while (num < range[1]) {
+                        final String line = reader.readLine();
+                        if (line == null) {
+                            break;
+                        }
+                        ++num;
+                        if (num >= range[0]) {
+                            out.add(line);
+                        }
+                    }
+                }
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    String.format("Failed to read the log at %s", this.log),
+                    ex
+                );
+            }
+            slice = out.toString();
+        }
+        return slice;
+    }
+
+    private void parse() {
+        synchronized (this.executions) {
+            if (!this.parsed) {
+                try (BufferedReader reader = Files.newBufferedReader(
+                    this.log, StandardCharsets.UTF_8
+                )) {
+                    while (true) {
+                        final String line = reader.readLine();
+                        if (line == null) {
+                            break;
+                        }
+                        this.index(line);
+                    }
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(
+                        String.format("Failed to index the log at %s", this.log),
+                        ex
+                    );
+                }
+                this.parsed = true;
+            }
+        }
+    }
+
+    private void index(final String line) {
+        ++this.total;
+        if (line.startsWith("[WARNING]")) {
+            this.warns.add(line);
+        } else if (line.startsWith("[ERROR]")) {
+            this.errs.add(line);
+        } else if (DtLogIndex.SUMMARY.matcher(line).matches()) {
+            this.summary = true;
+        } else {
+            final Matcher mtr = DtLogIndex.MOJO.matcher(line);
+            if (mtr.matches()) {
+                this.executions.add(mtr.group(1));
+            }
+            final Matcher module = DtLogIndex.MODULE.matcher(line);
+            if (this.summary && module.matches()) {
+                this.statuses.put(module.group(1), module.group(2));
+            }
+        }
+        this.attribute(line);
+    }
+
+    /**
+     * Attribute the latest line to the module being built.
+     * @param line The line
+     */
+    private void attribute(final String line) {
+        final Matcher building = DtLogIndex.BUILDING.matcher(line);
+        final Matcher mojo = DtLogIndex.MOJO.matcher(line);
+        if (this.summary) {
+            this.current = null;
+        } else if (building.matches()) {
+            this.current = building.group(1);
+        } else if (mojo.matches() && mojo.group(1).contains(" @ ")) {
+            this.current = mojo.group(1).substring(mojo.group(1).lastIndexOf(" @ ") + 3);
+        }
+        if (this.current != null) {
+            final List<long[]> lines = this.ranges.computeIfAbsent(
+                this.current, key -> new ArrayList<>(1)
+            );
+            if (lines.isEmpty() || lines.get(lines.size() - 1)[1] != this.total - 1L) {
+                lines.add(new long[] {this.total, this.total});
+            } else {
+                lines.get(lines.size() - 1)[1] = this.total;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Default implementation of {@link Module}.
+ *
+ * @since 0.16.0
+ */
+final class DtModule implements Module {
+
+    /**
+     * Home of the reactor.
+     */
+    private final Path home;
+
+    /**
+     * Name of the module, which is also its directory.
+     */
+    private final String name;
+
+    /**
+     * Files of the module.
+     */
+    private final Requisites requisites;
+
+    /**
+     * Ctor.
+     * @param dir Home of the reactor
+     * @param label Name of the module
+     * @param files Files of the module
+     */
+    DtModule(final Path dir, final String label, final Requisites files) {
+        this.home = dir;
+        this.name = label;
+        this.requisites = files;
+    }
+
+    @Override
+    public Requisites files() {
+        return this.requisites;
+    }
+
+    @Override
+    public Properties properties() {
+        return new DtProperties(this.pom());
+    }
+
+    @Override
+    public Build build() {
+        return new DtBuild(this.home.resolve(this.name), this.pom());
+    }
+
+    @Override
+    public Dependencies dependencies() {
+        return new DtDependencies(this.home.resolve(this.name), this.pom());
+    }
+
+    @Override
+    public String status() {
+        final String status = new DtLogIndex(this.home.resolve("log.txt"))
+            .modules().get(this.name);
+        if (status == null) {
+            throw new IllegalStateException(
+                String.format(
+                    "The module '%s' is not found in the Reactor Summary of %s",
+                    this.name, this.home.resolve("log.txt")
+                )
+            );
+        }
+        return status;
+    }
+
+    @Override
+    public String log() {
+        final String log = new DtLogIndex(this.home.resolve("log.txt")).slice(this.name);
+        if (log == null) {
+            throw new IllegalStateException(
+                String.format(
+                    "The module '%s' is not found in the log of %s",
+                    this.name, this.home.resolve("log.txt")
+                )
+            );
+        }
+        return log;
+    }
+
+    /**
+     * The POM of the module.
+     * @return The POM
+     */
+    private Pom pom() {
+        return new Pom(this.home.resolve(this.name).resolve("pom.xml"));
+    }
+}
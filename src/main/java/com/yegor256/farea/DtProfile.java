@@ -0,0 +1,170 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Profile, read from a JFR file.
+ *
+ * <p>The file is read event by event, only once, on the first call
+ * to any of the methods.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class DtProfile implements Profile {
+
+    /**
+     * The JFR file.
+     */
+    private final Path jfr;
+
+    /**
+     * Samples, by method.
+     */
+    private final Map<String, Long> samples;
+
+    /**
+     * Allocated bytes, by class.
+     */
+    private final Map<String, Long> allocated;
+
+    /**
+     * GC pauses.
+     */
+    private final List<Duration> gcs;
+
+    /**
+     * Parsed already?
+     */
+    private boolean parsed;
+
+    /**
+     * Ctor.
+     * @param file The JFR file
+     */
+    DtProfile(final Path file) {
+        this.jfr = file;
+        this.samples = new HashMap<>(0);
+        this.allocated = new HashMap<>(0);
+        this.gcs = new ArrayList<>(0);
+    }
+
+    @Override
+    public Map<String, Long> methods(final int max) {
+        this.parse();
+        return DtProfile.top(this.samples, max);
+    }
+
+    @Override
+    public Map<String, Long> allocations(final int max) {
+        this.parse();
+        return DtProfile.top(this.allocated, max);
+    }
+
+    @Override
+    public List<Duration> pauses() {
+        this.parse();
+        return Collections.unmodifiableList(this.gcs);
+    }
+
+    private void parse() {
+        synchronized (this.samples) {
+            if (!this.parsed) {
+                if (!this.jfr.toFile().exists()) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "There is no JFR recording at %s, did you call Farea.withJfr()?",
+                            this.jfr
+                        )
+                    );
+                }
+                try (RecordingFile file = new RecordingFile(this.jfr)) {
+                    while (file.hasMoreEvents()) {
+                        this.index(file.readEvent());
+                    }
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(
+                        String.format("Failed to read the JFR recording at %s", this.jfr),
+                        ex
+                    );
+                }
+                this.parsed = true;
+            }
+        }
+    }
+
+    private void index(final RecordedEvent event) {
+        final String type = event.getEventType().getName();
+        if ("jdk.ExecutionSample".equals(type)) {
+            final RecordedStackTrace trace = event.getStackTrace();
+            if (trace != null && !trace.getFrames().isEmpty()) {
+                final RecordedFrame frame = trace.getFrames().get(0);
+                final RecordedMethod method = frame.getMethod();
+                this.samples.merge(
+                    String.format("%s.%s", method.getType().getName(), method.getName()),
+                    1L, Long::sum
+                );
+            }
+        } else if (type.startsWith("jdk.ObjectAllocation")) {
+            final RecordedClass cls = event.getClass("objectClass");
+            if (cls != null) {
+                this.allocated.merge(cls.getName(), DtProfile.weight(event), Long::sum);
+            }
+        } else if ("jdk.GarbageCollection".equals(type)) {
+            this.gcs.add(event.getDuration("sumOfPauses"));
+        }
+    }
+
+    /**
+     * Estimated size of an allocation event.
+     *
+     * <p>Since Java 16, allocations are reported as
+     * {@code jdk.ObjectAllocationSample} events with the {@code weight} field,
+     * while in older versions there are {@code jdk.ObjectAllocationInNewTLAB}
+     * and {@code jdk.ObjectAllocationOutsideTLAB} events.</p>
+     *
+     * @param event The event
+     * @return Bytes
+     */
+    private static long weight(final RecordedEvent event) {
+        final long bytes;
+        if (event.hasField("weight")) {
+            bytes = event.getLong("weight");
+        } else if (event.hasField("tlabSize")) {
+            bytes = event.getLong("tlabSize");
+        } else if (event.hasField("allocationSize")) {
+            bytes = event.getLong("allocationSize");
+        } else {
+            bytes = 0L;
+        }
+        return bytes;
+    }
+
+    private static Map<String, Long> top(final Map<String, Long> all, final int max) {
+        final Map<String, Long> top = new LinkedHashMap<>(0);
+        all.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(max)
+            .forEach(ent -> top.put(ent.getKey(), ent.getValue()));
+        return Collections.unmodifiableMap(top);
+    }
+}
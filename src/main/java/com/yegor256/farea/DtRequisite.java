@@ -6,16 +6,26 @@ package com.yegor256.farea;
 
 import com.google.errorprone.annotations.InlineMe;
 import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -34,14 +44,30 @@ final class DtRequisite implements Requisite {
      */
     private final String name;
 
+    /**
+     * Leave files with identical content untouched?
+     */
+    private final boolean keep;
+
     /**
      * Ctor.
      * @param dir The home dir
      * @param file The name of it
      */
     DtRequisite(final Path dir, final String file) {
+        this(dir, file, false);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The home dir
+     * @param file The name of it
+     * @param unchanged Leave files with identical content untouched?
+     */
+    DtRequisite(final Path dir, final String file, final boolean unchanged) {
         this.home = dir;
         this.name = file;
+        this.keep = unchanged;
     }
 
     @Override
@@ -56,55 +82,90 @@ final class DtRequisite implements Requisite {
 
     @Override
     public Requisite write(final byte[] content) throws IOException {
-        final File parent = this.path().toFile().getParentFile();
-        if (parent.mkdirs()) {
-            Logger.debug(this, "Directory created at %[file]s", parent);
-        }
-        final boolean existed = this.path().toFile().exists();
-        Files.write(
-            this.path(),
-            content
-        );
-        if (existed) {
-            Logger.debug(
-                this, "File replaced at %[file]s (%[size]s)",
-                this.path(), this.path().toFile().length()
-            );
+        final Requisite req;
+        if (this.keep && Tree.identical(
+            this.path(), content.length, new ByteArrayInputStream(content)
+        )) {
+            Logger.debug(this, "File unchanged at %[file]s", this.path());
+            req = this;
         } else {
-            Logger.debug(
-                this, "File created at %[file]s (%[size]s)",
-                this.path(), this.path().toFile().length()
+            req = this.put(
+                "write",
+                channel -> {
+                    final ByteBuffer buf = ByteBuffer.wrap(content);
+                    while (buf.hasRemaining()) {
+                        channel.write(buf);
+                    }
+                }
             );
         }
-        return this;
+        return req;
     }
 
     @Override
-    public Requisite save(final Path src) throws IOException {
-        if (src.toFile().isDirectory()) {
-            final Path target = this.path();
-            final Collection<Path> sources;
-            try (Stream<Path> walk = Files.walk(src)) {
-                sources = walk
-                    .filter(file -> !file.toFile().isDirectory())
-                    .collect(Collectors.toList());
-            }
-            final Requisites reqs = new DtRequisites(this.home);
-            int total = 0;
-            for (final Path file : sources) {
-                reqs
-                    .file(target.resolve(src.relativize(file)).toString())
-                    .write(Files.readAllBytes(file));
-                ++total;
+    public Requisite write(final InputStream input) throws IOException {
+        return this.put(
+            "stream",
+            channel -> {
+                final ReadableByteChannel src = Channels.newChannel(input);
+                long pos = 0L;
+                long done;
+                do {
+                    done = channel.transferFrom(src, pos, 1L << 20);
+                    pos += done;
+                } while (done > 0L);
             }
-            Logger.debug(
-                this, "Copied %d file(s) to %[file]s",
-                total, target
+        );
+    }
+
+    @Override
+    public Requisite write(final Requisite.Generator generator) throws IOException {
+        return this.put("generate", generator);
+    }
+
+    @Override
+    public Requisite sparse(final long size) throws IOException {
+        if (size < 0L) {
+            throw new IllegalArgumentException(
+                String.format("The size of a file can't be negative: %d", size)
             );
+        }
+        return this.put(
+            "sparse",
+            channel -> {
+                if (size > 0L) {
+                    channel.write(ByteBuffer.allocate(1), size - 1L);
+                }
+            },
+            StandardOpenOption.SPARSE
+        );
+    }
+
+    @Override
+    public Requisite save(final Path src) throws IOException {
+        final FileEvent event = new FileEvent("save", this.path());
+        event.begin();
+        final Volume volume;
+        if (this.keep) {
+            volume = new Tree(src).updateTo(this.path());
         } else {
-            this.write(Files.readAllBytes(src));
+            volume = new Tree(src).copyTo(this.path());
         }
-        return this;
+        return this.done(event, "Copied", volume);
+    }
+
+    @Override
+    public Requisite link(final Path src) throws IOException {
+        final FileEvent event = new FileEvent("link", this.path());
+        event.begin();
+        return this.done(event, "Hard-linked", new Tree(src).cloneTo(this.path()));
+    }
+
+    @Override
+    public Requisite symlink(final Path src) throws IOException {
+        final FileEvent event = new FileEvent("symlink", this.path());
+        event.begin();
+        return this.done(event, "Symlinked", new Tree(src).symlinkTo(this.path()));
     }
 
     @Override
@@ -115,20 +176,50 @@ final class DtRequisite implements Requisite {
         );
     }
 
+    @Override
+    public Stream<String> lines() throws IOException {
+        return Files.lines(this.path(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream inputStream() throws IOException {
+        return Files.newInputStream(this.path());
+    }
+
+    @Override
+    public SeekableByteChannel channel() throws IOException {
+        return Files.newByteChannel(this.path());
+    }
+
+    @Override
+    public ByteBuffer mapped() throws IOException {
+        try (FileChannel channel = FileChannel.open(this.path())) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+    }
+
+    @Override
+    public long size() throws IOException {
+        return Files.size(this.path());
+    }
+
+    @Override
+    public String sha256() throws IOException {
+        return Snapshot.sha(this.path());
+    }
+
+    @Override
+    public Archive archive() throws IOException {
+        return new DtArchive(this.path());
+    }
+
     @Override
     public void show() throws IOException {
         if (this.path().toFile().isDirectory()) {
-            final String listing;
-            try (Stream<Path> walk = Files.walk(this.path())) {
-                listing = walk
-                    .map(this.home::relativize)
-                    .map(Path::toString)
-                    .map(s -> String.format("%s", s))
-                    .collect(Collectors.joining(String.format("%n  ")));
-            }
             Logger.info(
                 this, "The content of the %[file]s directory:%n  %s",
-                this.name, listing
+                this.name,
+                new Listing(this.home, this.path(), 200).text(String.format("%n  "))
             );
         } else {
             Logger.info(
@@ -187,4 +278,64 @@ final class DtRequisite implements Requisite {
     public Path path() {
         return this.home.resolve(this.name);
     }
+
+    /**
+     * Replace the file with a new one, generated.
+     *
+     * <p>The file is deleted first, instead of being truncated, in order
+     * to break hard links to it, if there are any.</p>
+     *
+     * @param opr The operation, for the JFR event
+     * @param generator The generator of the content
+     * @param opts Extra options of the channel
+     * @return Itself
+     * @throws IOException If fails
+     */
+    private Requisite put(final String opr, final Requisite.Generator generator,
+        final OpenOption... opts) throws IOException {
+        final File parent = this.path().toFile().getParentFile();
+        if (parent.mkdirs()) {
+            Logger.debug(this, "Directory created at %[file]s", parent);
+        }
+        final boolean existed = this.path().toFile().exists();
+        final FileEvent event = new FileEvent(opr, this.path());
+        event.begin();
+        if (existed) {
+            Files.delete(this.path());
+        }
+        final Set<OpenOption> options = new HashSet<>(Arrays.asList(opts));
+        options.add(StandardOpenOption.CREATE_NEW);
+        options.add(StandardOpenOption.WRITE);
+        final long size;
+        try (FileChannel channel = FileChannel.open(this.path(), options)) {
+            generator.generate(channel);
+            size = channel.size();
+        }
+        event.done(1, size);
+        if (existed) {
+            Logger.debug(
+                this, "File replaced at %[file]s (%[size]s)",
+                this.path(), size
+            );
+        } else {
+            Logger.debug(
+                this, "File created at %[file]s (%[size]s)",
+                this.path(), size
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Finish the event and report.
+     * @param event The event
+     * @param verb What was done, for the log
+     * @param volume The volume of files
+     * @return Itself
+     */
+    private Requisite done(final FileEvent event, final String verb, final Volume volume) {
+        event.done(volume.files(), volume.bytes());
+        Logger.debug(this, "%s %s to %[file]s", verb, volume, this.path());
+        return this;
+    }
 }
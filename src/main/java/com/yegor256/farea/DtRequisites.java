@@ -4,8 +4,28 @@
  */
 package com.yegor256.farea;
 
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 /**
  * Files in Maven Reactor.
@@ -18,12 +38,27 @@ final class DtRequisites implements Requisites {
      */
     private final Path home;
 
+    /**
+     * Leave files with identical content untouched?
+     */
+    private final boolean keep;
+
     /**
      * Ctor.
      * @param dir The home dir
      */
     DtRequisites(final Path dir) {
+        this(dir, false);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The home dir
+     * @param unchanged Leave files with identical content untouched?
+     */
+    DtRequisites(final Path dir, final boolean unchanged) {
         this.home = dir;
+        this.keep = unchanged;
     }
 
     @Override
@@ -38,6 +73,223 @@ final class DtRequisites implements Requisites {
 
     @Override
     public Requisite file(final String name) {
-        return new DtRequisite(this.home, name);
+        return new DtRequisite(this.home, name, this.keep);
+    }
+
+    @Override
+    public Requisites seed(final Map<String, byte[]> files) throws IOException {
+        final FileEvent event = new FileEvent("seed", this.home);
+        event.begin();
+        final Collection<Path> dirs = files.keySet().stream()
+            .map(name -> this.home.resolve(name).getParent())
+            .collect(Collectors.toSet());
+        for (final Path dir : dirs) {
+            Files.createDirectories(dir);
+        }
+        final AtomicLong written = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+        try {
+            files.entrySet().parallelStream().forEach(
+                ent -> {
+                    try {
+                        if (this.put(this.home.resolve(ent.getKey()), ent.getValue())) {
+                            written.incrementAndGet();
+                            bytes.addAndGet(ent.getValue().length);
+                        }
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            );
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        event.done(written.get(), bytes.get());
+        Logger.debug(
+            this, "%s seeded into %[file]s, in %d directories (%d unchanged)",
+            new Volume(written.get(), bytes.get()), this.home, dirs.size(),
+            files.size() - written.get()
+        );
+        return this;
+    }
+
+    @Override
+    public Requisites seedFromClasspath(final String prefix) throws IOException {
+        final String dir = DtRequisites.directory(prefix);
+        final Enumeration<URL> urls = Thread.currentThread()
+            .getContextClassLoader().getResources(dir);
+        if (!urls.hasMoreElements()) {
+            throw new IllegalArgumentException(
+                String.format("There are no resources at '%s' in the classpath", dir)
+            );
+        }
+        while (urls.hasMoreElements()) {
+            final URL url = urls.nextElement();
+            final FileEvent event = new FileEvent("classpath", this.home);
+            event.begin();
+            final Volume volume;
+            if ("file".equals(url.getProtocol())) {
+                volume = this.tree(Paths.get(DtRequisites.uri(url)));
+            } else if ("jar".equals(url.getProtocol())) {
+                volume = this.jar((JarURLConnection) url.openConnection());
+            } else {
+                throw new IllegalArgumentException(
+                    String.format("Can't seed from %s, only files and JARs are supported", url)
+                );
+            }
+            event.done(volume.files(), volume.bytes());
+            Logger.debug(this, "%s seeded into %[file]s from %s", volume, this.home, url);
+        }
+        return this;
+    }
+
+    @Override
+    public Requisites importArchive(final Path archive) throws IOException {
+        try (InputStream input = Files.newInputStream(archive)) {
+            this.importArchive(input);
+        }
+        return this;
+    }
+
+    @Override
+    public Requisites importArchive(final InputStream input) throws IOException {
+        final FileEvent event = new FileEvent("unpack", this.home);
+        event.begin();
+        final Volume volume = new Bundle(this.home).unpack(input);
+        event.done(volume.files(), volume.bytes());
+        Logger.debug(this, "%s unpacked into %[file]s", volume, this.home);
+        return this;
+    }
+
+    @Override
+    public Requisites exportArchive(final Path archive) throws IOException {
+        final FileEvent event = new FileEvent("pack", this.home);
+        event.begin();
+        final Volume volume = new Bundle(this.home).pack(archive);
+        event.done(volume.files(), volume.bytes());
+        Logger.debug(
+            this, "%s packed from %[file]s into %[file]s (%[size]s)",
+            volume, this.home, archive, Files.size(archive)
+        );
+        return this;
+    }
+
+    /**
+     * Copy a directory into the home.
+     * @param dir The directory
+     * @return The volume
+     * @throws IOException If fails
+     */
+    private Volume tree(final Path dir) throws IOException {
+        final Volume volume;
+        if (this.keep) {
+            volume = new Tree(dir).updateTo(this.home);
+        } else {
+            volume = new Tree(dir).copyTo(this.home);
+        }
+        return volume;
+    }
+
+    /**
+     * Copy entries of a JAR into the home, straight from the JAR.
+     * @param conn The connection to the directory in the JAR
+     * @return The volume
+     * @throws IOException If fails
+     */
+    private Volume jar(final JarURLConnection conn) throws IOException {
+        conn.setUseCaches(false);
+        final String dir = conn.getEntryName();
+        final Collection<Path> dirs = new HashSet<>(0);
+        long files = 0L;
+        long bytes = 0L;
+        try (JarFile jar = conn.getJarFile()) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().startsWith(dir)) {
+                    final Path target = this.home.resolve(
+                        entry.getName().substring(dir.length())
+                    );
+                    if (dirs.add(target.getParent())) {
+                        Files.createDirectories(target.getParent());
+                    }
+                    DtRequisites.extract(jar, entry, target, this.keep);
+                    ++files;
+                    bytes += entry.getSize();
+                }
+            }
+        }
+        return new Volume(files, bytes);
+    }
+
+    /**
+     * Extract the entry from the JAR, unless its content is the same
+     * and must be kept.
+     * @param jar The JAR
+     * @param entry The entry
+     * @param target The file to write
+     * @param keep Keep the file, if its content is the same?
+     * @throws IOException If fails
+     */
+    private static void extract(final JarFile jar, final JarEntry entry, final Path target,
+        final boolean keep) throws IOException {
+        final boolean same;
+        try (InputStream input = jar.getInputStream(entry)) {
+            same = keep && Tree.identical(target, entry.getSize(), input);
+        }
+        if (!same) {
+            try (InputStream input = jar.getInputStream(entry)) {
+                Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Write the file, unless its content is the same and must be kept.
+     * @param path The file
+     * @param content The content
+     * @return TRUE if written
+     * @throws IOException If fails
+     */
+    private boolean put(final Path path, final byte[] content) throws IOException {
+        final boolean written;
+        if (this.keep && Tree.identical(path, content.length, new ByteArrayInputStream(content))) {
+            written = false;
+        } else {
+            Files.deleteIfExists(path);
+            Files.write(path, content, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            written = true;
+        }
+        return written;
+    }
+
+    /**
+     * Normalize the prefix into the name of a directory, without
+     * the leading slash and with the trailing one.
+     * @param prefix The prefix
+     * @return The name of the directory
+     */
+    private static String directory(final String prefix) {
+        final String name = prefix.replaceFirst("^/+", "");
+        final String dir;
+        if (name.endsWith("/")) {
+            dir = name;
+        } else {
+            dir = String.format("%s/", name);
+        }
+        return dir;
+    }
+
+    /**
+     * Convert URL to URI.
+     * @param url The URL
+     * @return The URI
+     */
+    private static URI uri(final URL url) {
+        try {
+            return url.toURI();
+        } catch (final URISyntaxException ex) {
+            throw new IllegalArgumentException(ex);
+        }
     }
 }
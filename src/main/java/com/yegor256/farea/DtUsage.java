@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Resources consumed by a build, as plain numbers.
+ *
+ * <p>The class is immutable and thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class DtUsage implements Usage {
+
+    /**
+     * CPU time.
+     */
+    private final Duration consumed;
+
+    /**
+     * Peak resident memory, in bytes.
+     */
+    private final long rss;
+
+    /**
+     * Peak number of threads.
+     */
+    private final int peak;
+
+    /**
+     * Bytes read.
+     */
+    private final long input;
+
+    /**
+     * Bytes written.
+     */
+    private final long output;
+
+    /**
+     * Ctor.
+     * @param props Properties, as saved by {@link #save(Properties)}
+     */
+    DtUsage(final Properties props) {
+        this(
+            Duration.parse(props.getProperty("cpu", Duration.ZERO.toString())),
+            Long.parseLong(props.getProperty("memory", "0")),
+            Integer.parseInt(props.getProperty("threads", "0")),
+            Long.parseLong(props.getProperty("read", "0")),
+            Long.parseLong(props.getProperty("written", "0"))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param cpu CPU time
+     * @param memory Peak resident memory, in bytes
+     * @param threads Peak number of threads
+     * @param read Bytes read
+     * @param written Bytes written
+     */
+    DtUsage(final Duration cpu, final long memory, final int threads,
+        final long read, final long written) {
+        this.consumed = cpu;
+        this.rss = memory;
+        this.peak = threads;
+        this.input = read;
+        this.output = written;
+    }
+
+    @Override
+    public Duration cpu() {
+        return this.consumed;
+    }
+
+    @Override
+    public long memory() {
+        return this.rss;
+    }
+
+    @Override
+    public int threads() {
+        return this.peak;
+    }
+
+    @Override
+    public long read() {
+        return this.input;
+    }
+
+    @Override
+    public long written() {
+        return this.output;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "cpu=%dms, memory=%dKb, threads=%d, read=%dKb, written=%dKb",
+            this.consumed.toMillis(), this.rss / 1024L, this.peak,
+            this.input / 1024L, this.output / 1024L
+        );
+    }
+
+    /**
+     * Save all numbers to properties.
+     * @param props The properties to save to
+     */
+    void save(final Properties props) {
+        props.setProperty("cpu", this.consumed.toString());
+        props.setProperty("memory", Long.toString(this.rss));
+        props.setProperty("threads", Integer.toString(this.peak));
+        props.setProperty("read", Long.toString(this.input));
+        props.setProperty("written", Long.toString(this.output));
+    }
+}
@@ -6,22 +6,25 @@ package com.yegor256.farea;
 
 import com.jcabi.log.Logger;
 import com.jcabi.log.VerboseRunnable;
-import com.yegor256.Jaxec;
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.regex.Pattern;
+import org.xembly.Directives;
 
 /**
  * Fake Maven Reactor.
@@ -65,6 +68,18 @@ import java.util.stream.Stream;
 @SuppressWarnings("PMD.TooManyMethods")
 public final class Farea {
 
+    /**
+     * Valid name of a module.
+     */
+    private static final Pattern MODULE = Pattern.compile("[A-Za-z0-9._-]+");
+
+    /**
+     * Options of Maven, which set its failure mode.
+     */
+    private static final Collection<String> FAILURES = Arrays.asList(
+        "--fail-fast", "-ff", "--fail-at-end", "-fae", "--fail-never", "-fn"
+    );
+
     /**
      * Home.
      */
@@ -75,6 +90,11 @@ public final class Farea {
      */
     private final Collection<String> opts;
 
+    /**
+     * Settings.
+     */
+    private final Settings settings;
+
     /**
      * Ctor.
      * @param dir The home dir
@@ -138,32 +158,259 @@ public final class Farea {
     public Farea(final Path dir, final Collection<String> mopts) {
         this.home = dir;
         this.opts = new ArrayList<>(mopts);
+        this.settings = new Settings();
     }
 
     /**
      * Clean the reactor, remove all files from it.
+     *
+     * <p>The home directory is renamed aside and disappears right away,
+     * while its files are deleted in background, in parallel. All pending
+     * deletions are finished when the JVM exits.</p>
+     *
      * @throws IOException If fails
      */
     public void clean() throws IOException {
-        if (this.home.toFile().mkdirs()) {
-            Logger.debug(this, "Directory created at %[file]s", this.home);
-        }
-        try (Stream<Path> dir = Files.walk(this.home)) {
-            dir
-                .map(Path::toFile)
-                .sorted(Comparator.reverseOrder())
-                .forEach(File::delete);
-        }
+        Trash.JVM.dispose(this.home);
     }
 
     /**
      * With an extra command-line option.
+     *
+     * <p>An option of the failure mode, like {@code --fail-at-end} or
+     * {@code --fail-never}, replaces the one that is already there,
+     * for example, the default {@code --fail-fast}, since Maven
+     * would ignore it otherwise.</p>
+     *
      * @param opt The option to add
      */
     public void withOpt(final String opt) {
+        if (Farea.FAILURES.contains(opt)) {
+            this.opts.removeAll(Farea.FAILURES);
+        }
         this.opts.add(opt);
     }
 
+    /**
+     * With logs of previous runs compressed.
+     *
+     * <p>Every call to {@link #exec(String...)} keeps its log in the
+     * {@link #history()}. When this option is set, logs of all previous
+     * runs are gzip-ed in a background thread, in order to save disk space
+     * on chatty builds. They are un-zipped back when requested.</p>
+     *
+     * @since 0.16.0
+     */
+    public void withCompressedLogs() {
+        this.settings.compress(true);
+    }
+
+    /**
+     * With the given number of the last lines of the Maven log kept in memory.
+     *
+     * <p>These lines are printed when the build fails and are included
+     * into the message of the {@link BuildFailureException}. The full
+     * log is never read into memory, unless you ask for it,
+     * through the {@link #log()}. By default, no more than 200 lines
+     * and no more than 64Kb are kept.</p>
+     *
+     * @param lines Max number of lines
+     * @param bytes Max total size of lines, in bytes
+     * @since 0.16.0
+     */
+    public void withTail(final int lines, final long bytes) {
+        this.settings.tail(lines, bytes);
+    }
+
+    /**
+     * With files changed by builds tracked.
+     *
+     * <p>Right before every build, a snapshot of all files in the reactor
+     * is taken, and another one right after it, in order to find out which
+     * files were added, modified, or deleted by the build, see
+     * {@link BuildResult#changes()}. Without this option, the reactor
+     * is not walked at all.</p>
+     *
+     * @since 0.16.0
+     */
+    public void withChanges() {
+        this.settings.changes(true);
+    }
+
+    /**
+     * With the content of files hashed, when snapshots of the reactor are taken.
+     *
+     * <p>By default, only sizes and modification times of files are
+     * compared, in order to find out changes made by a build, see
+     * {@link #withChanges()}. When this option is set, SHA-256 hashes of their
+     * content are compared too, which is slower, but more precise. It also
+     * enables the tracking of changes.</p>
+     *
+     * @since 0.16.0
+     */
+    public void withHashes() {
+        this.settings.hash(true);
+        this.settings.changes(true);
+    }
+
+    /**
+     * With the JVM of Maven recorded by Java Flight Recorder.
+     *
+     * <p>When this option is set, the {@code -XX:StartFlightRecording}
+     * option is added to the {@code MAVEN_OPTS} of every build, and
+     * the recording is saved next to its log. A short summary of it,
+     * with the hottest methods, the heaviest allocations, and GC pauses,
+     * is available through {@link BuildResult#profile()}. This is helpful
+     * when your plugin is slow and you want to find out why.</p>
+     *
+     * @since 0.16.0
+     */
+    public void withJfr() {
+        this.settings.record(true);
+    }
+
+    /**
+     * With identical builds deduplicated.
+     *
+     * <p>When this option is set, right before every build a fingerprint
+     * of its inputs is calculated: SHA-256 hashes of all files in the
+     * reactor, Maven options, and command line arguments. If an identical
+     * build, with the same fingerprint, is already running in another
+     * reactor, for example in a parameterized test, this one doesn't start
+     * Maven. Instead, it waits for the other one to finish and takes
+     * its results: the exit code, the log, and the {@code target/}
+     * directory, which is hard-linked, not copied.</p>
+     *
+     * @since 0.16.0
+     */
+    public void withDedup() {
+        this.settings.dedup(true);
+    }
+
+    /**
+     * With files written only when their content changes.
+     *
+     * <p>When this option is set, {@link Requisite#write(byte[])} and
+     * {@link Requisite#save(Path)} compare the new content with the
+     * existing file, first by size and then byte by byte, and leave
+     * identical files untouched, with their modification times. Thus,
+     * when the same sources are written again before the next build,
+     * the compiler and other incremental plugins don't see them as
+     * stale, and the second build is truly incremental:</p>
+     *
+     * <pre>
+     * f.withIncrementalWrites();
+     * f.files().file("src/main/java/Foo.java").write(code);
+     * f.exec("compile");
+     * f.files().file("src/main/java/Foo.java").write(code);
+     * f.exec("compile");
+     * </pre>
+     *
+     * <p>The option only affects {@link Requisites} obtained from
+     * {@link #files()} after it is set.</p>
+     *
+     * @since 0.16.0
+     */
+    public void withIncrementalWrites() {
+        this.settings.incremental(true);
+    }
+
+    /**
+     * With extra files persisted on the disk after a failed build,
+     * if the reactor lives in RAM, see {@link #inRam(Path)}.
+     *
+     * <p>The {@code log.txt} is always persisted.</p>
+     *
+     * @param globs Glob patterns of files, like {@code "target/surefire-reports/**"}
+     * @since 0.16.0
+     */
+    public void withPersisted(final String... globs) {
+        this.settings.persisted(globs);
+    }
+
+    /**
+     * Capture the current state of the reactor as a named fixture.
+     *
+     * <p>All files of the reactor are copied, including the
+     * {@code target/} directory, except the history of runs and
+     * the log. Then, the fixture may be restored into other homes with
+     * {@link #restore(String, Path)}, which is much faster than
+     * preparing the same state again:</p>
+     *
+     * <pre>
+     * new Farea(dir).together(f -&gt; {
+     *   f.files().file("src/main/java/Foo.java").write("...".getBytes());
+     *   f.exec("compile");
+     *   f.snapshot("compiled");
+     * });
+     * Farea.restore("compiled", other).exec("test");
+     * </pre>
+     *
+     * @param name The name of the fixture
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    public void snapshot(final String name) throws IOException {
+        Fixtures.JVM.capture(name, this.home);
+    }
+
+    /**
+     * Make a reactor with its home in RAM, on a {@code tmpfs},
+     * like {@code /dev/shm}.
+     *
+     * <p>This is helpful for I/O-heavy builds, which read and write
+     * thousands of files. The total size of all homes in RAM is limited
+     * by the budget, which is 1 GiB by default and may be changed by the
+     * {@code farea.ram.budget} system property. When it's exhausted,
+     * when the {@code tmpfs} has less free space than what is left of it
+     * (a warning is logged), or when there is no {@code tmpfs},
+     * the home is on the disk, in the given directory.</p>
+     *
+     * <p>Mind that the budget and the free space are checked only here,
+     * when the home is created. Nothing is checked while builds run:
+     * if they fill up the {@code tmpfs}, they fail with
+     * "No space left on device", and the home is not moved to the disk.
+     * Set the budget well below the size of the {@code tmpfs}, if many
+     * reactors run in RAM at the same time.</p>
+     *
+     * <p>When the build fails, its {@code log.txt} is copied
+     * to the directory on the disk, see {@link #withPersisted(String...)}.
+     * Homes in RAM are deleted when the JVM exits.</p>
+     *
+     * @param dir The home dir on the disk
+     * @return The reactor
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    public static Farea inRam(final Path dir) throws IOException {
+        final Path home = Ram.JVM.home(dir);
+        final Farea farea = new Farea(home);
+        if (!home.equals(dir)) {
+            farea.settings.ram(dir);
+        }
+        return farea;
+    }
+
+    /**
+     * Restore a fixture, captured by {@link #snapshot(String)}, into a new home.
+     *
+     * <p>Files are not copied, but cloned with reflinks, where the file
+     * system supports them, or hard-linked otherwise. Thus, the time
+     * it takes depends on the number of files, not on their sizes.
+     * Without reflinks, files in {@code target/} directories of modules
+     * are copied though, since Maven may modify them in place.</p>
+     *
+     * @param name The name of the fixture
+     * @param dir The home dir
+     * @return The reactor in the new home
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    public static Farea restore(final String name, final Path dir) throws IOException {
+        Fixtures.JVM.restore(name, dir);
+        return new Farea(dir);
+    }
+
     /**
      * Run it all together.
      *
@@ -183,7 +430,7 @@ public final class Farea {
      * @return Files in home
      */
     public Requisites files() {
-        return new DtRequisites(this.home);
+        return this.settings.requisites(this.home);
     }
 
     /**
@@ -213,6 +460,65 @@ public final class Farea {
         return new DtDependencies(this.home, this.pom());
     }
 
+    /**
+     * Module of the reactor, created if absent.
+     *
+     * <p>The first call turns the reactor into an aggregator: its
+     * {@code pom.xml} gets the {@code pom} packaging and the list of
+     * {@code <modules>}, while each module gets its own directory, with
+     * its own {@code pom.xml}, which inherits plugins and dependencies
+     * of the reactor. All modules are built by one Maven process,
+     * in parallel, if {@code withOpt("-T4")} is set. Then, their
+     * results are available through {@link Module#status()}.</p>
+     *
+     * @param name Name of the module, which is also its directory
+     * @return The module
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    public Module module(final String name) throws IOException {
+        if (!Farea.MODULE.matcher(name).matches() || name.startsWith(".")) {
+            throw new IllegalArgumentException(
+                String.format("Invalid name of a module: '%s'", name)
+            );
+        }
+        final Pom parent = this.pom();
+        if (parent.xpath(String.format("/project/modules/module[.='%s']", name)).isEmpty()) {
+            parent.modify(
+                new Directives()
+                    .xpath("/project")
+                    .addIf("packaging").set("pom").up()
+                    .addIf("modules")
+                    .add("module").set(name)
+            );
+            new Pom(this.home.resolve(name).resolve("pom.xml")).modify(
+                new Directives()
+                    .xpath("/")
+                    .addIf("project")
+                    .addIf("modelVersion").set("4.0.0").up()
+                    .addIf("parent")
+                    .addIf("groupId").set(parent.xpath("/project/groupId/text()").get(0)).up()
+                    .addIf("artifactId")
+                    .set(parent.xpath("/project/artifactId/text()").get(0)).up()
+                    .addIf("version").set(parent.xpath("/project/version/text()").get(0)).up()
+                    .up()
+                    .addIf("artifactId").set(name).up()
+                    .addIf("name").set(name)
+            );
+            Logger.debug(this, "Module '%s' added to %[file]s", name, this.home);
+        }
+        return new DtModule(this.home, name, this.settings.requisites(this.home.resolve(name)));
+    }
+
+    /**
+     * History of all Maven runs in this reactor.
+     * @return The history
+     * @since 0.16.0
+     */
+    public History history() {
+        return new DtHistory(this.home, this.settings.compressed());
+    }
+
     /**
      * Execute with command line arguments.
      *
@@ -243,50 +549,115 @@ public final class Farea {
      *
      * <p>If Maven fails, this method will throw an exception.</p>
      *
+     * <p>The log of Maven is saved to the {@code log.txt} file, which
+     * is replaced on every call. Logs and exit codes of all previous
+     * calls are available through the {@link #history()}.</p>
+     *
      * @param args Command line arguments
+     * @return The result of the build
      * @throws IOException If fails
      */
-    public void exec(final String... args) throws IOException {
+    public BuildResult exec(final String... args) throws IOException {
         this.pom().init();
         final Path log = this.home.resolve("log.txt");
+        Files.deleteIfExists(log);
+        final DtHistory history = new DtHistory(this.home, this.settings.compressed());
+        final Path run = history.next();
         if (Logger.isDebugEnabled(Farea.class)) {
             Farea.log(
                 Level.FINER,
                 Logger.format("pom.xml at %[file]s", this.home),
                 this.pom().xml()
             );
-            Farea.log(
-                Level.FINER,
-                Logger.format("Files at %[file]s", this.home),
-                this.walk()
+        }
+        final Snapshot snapshot = this.settings.snapshot(this.home);
+        Map<String, String> before = Collections.emptyMap();
+        if (this.settings.tracked()) {
+            before = snapshot.files();
+            Logger.debug(
+                this, "Snapshot of %d file(s) taken at %[file]s",
+                before.size(), this.home
             );
         }
         Logger.debug(this, "Log stream redirected to %[file]s", log);
-        final AtomicBoolean finished = new AtomicBoolean(false);
-        final Thread terminal = new Thread(
-            new VerboseRunnable(
-                () -> this.tail(log, finished)
-            )
+        final Ring ring = this.settings.ring();
+        final Tail tail = new Tail(log, ring);
+        final MavenEvent event = new MavenEvent(this.home, args);
+        event.begin();
+        final long start = System.nanoTime();
+        final Flight flight = Flights.JVM.take(
+            this.settings.fingerprint(this.home, this.opts, args)
         );
-        terminal.start();
-        final int code;
+        final BuildResult result;
         try {
-            code = this.jaxec(args, log);
-        } finally {
-            finished.set(true);
-            Farea.join(terminal);
+            final Optional<Map.Entry<Path, BuildResult>> twin = flight.twin();
+            final DtUsage usage;
+            final int code;
+            if (twin.isPresent()) {
+                final Usage used = twin.get().getValue().usage();
+                usage = new DtUsage(
+                    used.cpu(), used.memory(), used.threads(), used.read(), used.written()
+                );
+                try {
+                    code = this.land(twin.get().getKey(), twin.get().getValue(), log, run);
+                } finally {
+                    flight.release();
+                }
+            } else {
+                final Process process = this.mvn(args, log, run.resolve("maven.jfr"));
+                final Sampler sampler = new Sampler(process.toHandle());
+                code = Farea.watch(process, tail, sampler);
+                usage = sampler.usage();
+            }
+            final Duration wall = Duration.ofNanos(System.nanoTime() - start);
+            event.done(code, log.toFile().length());
+            tail.poll();
+            tail.flush();
+            result = history.record(
+                run, log, code, usage, wall,
+                this.changes(before, snapshot)
+            );
+        } catch (final IOException | RuntimeException ex) {
+            flight.abort(ex);
+            throw ex;
+        }
+        flight.land(this.home, run, result);
+        final int code = result.code();
+        final Duration wall = result.wall();
+        Summary.JVM.add(
+            Logger.format("%[file]s #%s: %s", this.home, run.getFileName(), String.join(" ", args)),
+            result
+        );
+        try {
+            Timings.JVM.add(String.join(" ", args), result);
+        } catch (final IOException | RuntimeException ex) {
+            Logger.warn(this, "Failed to record the timing of the build: %[exception]s", ex);
         }
+        Logger.debug(
+            this, "Maven finished with exit code %d in %[ms]s, %s",
+            code, wall.toMillis(), result.usage()
+        );
         if (Logger.isDebugEnabled(Farea.class)) {
             Farea.log(
                 Level.FINER,
-                "Maven stdout",
-                new String(Files.readAllBytes(log), StandardCharsets.UTF_8)
-            );
-            Farea.log(
-                Level.FINER,
-                Logger.format("Files after execution at %[file]s", this.home),
-                this.walk()
+                Logger.format(
+                    "The last %d line(s) of Maven stdout (%d skipped, see %[file]s)",
+                    ring.lines().size(), ring.dropped(), log
+                ),
+                ring.text()
             );
+            if (this.settings.tracked()) {
+                final Changes changes = result.changes();
+                Farea.log(
+                    Level.FINER,
+                    Logger.format(
+                        "Files changed at %[file]s: %d added, %d modified, %d deleted",
+                        this.home, changes.added().size(),
+                        changes.modified().size(), changes.deleted().size()
+                    ),
+                    Farea.changes(changes)
+                );
+            }
         }
         if (code != 0) {
             Farea.log(
@@ -295,11 +666,21 @@ public final class Farea {
                 this.pom().xml()
             );
             Farea.log(
-                Level.WARNING, "The stdout of the failed Maven build",
-                new String(Files.readAllBytes(log), StandardCharsets.UTF_8)
+                Level.WARNING,
+                Logger.format(
+                    "The last %d line(s) of the failed Maven build (%d skipped, see %[file]s)",
+                    ring.lines().size(), ring.dropped(), log
+                ),
+                ring.text()
             );
-            throw new BuildFailureException(code);
+            try {
+                this.settings.persist(this.home);
+            } catch (final IOException ex) {
+                Logger.warn(this, "Failed to persist files of the build: %[exception]s", ex);
+            }
+            throw new BuildFailureException(code, ring.lines());
         }
+        return result;
     }
 
     /**
@@ -313,63 +694,150 @@ public final class Farea {
 
     /**
      * List of all files.
+     *
+     * <p>All files are listed, no matter how many of them are there.
+     * Use {@link #walk(String, int, int)} to limit the listing.</p>
+     *
      * @return List of files in the dir
      * @throws IOException If fails
      */
     public String walk() throws IOException {
-        try (Stream<Path> paths = Files.walk(this.home)) {
-            return paths
-                .map(this.home::relativize)
-                .map(Path::toString)
-                .map(s -> String.format("%s", s))
-                .collect(Collectors.joining(System.lineSeparator()));
+        return this.walk("**", Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * List of files, matching the glob pattern, with their sizes.
+     *
+     * <p>Only files count towards the limit, directories don't.
+     * Files beyond the limit are only counted, together with
+     * their sizes, in the last line of the listing:</p>
+     *
+     * <pre>
+     * target/classes
+     * target/classes/Foo.class (1.2Kb)
+     * ... 42 more file(s), 1.5Mb
+     * </pre>
+     *
+     * @param glob Glob pattern of paths, for example {@code "target/**.class"}
+     * @param depth Max depth of directories to go into
+     * @param max Max number of files to list
+     * @return List of files in the dir
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    public String walk(final String glob, final int depth, final int max)
+        throws IOException {
+        return new Listing(this.home, this.home, depth, max, glob, true)
+            .text(System.lineSeparator());
+    }
+
+    /**
+     * Changes made by the build, found right after it.
+     * @param before The snapshot taken before the build
+     * @param snapshot The snapshot to take now
+     * @return Source of changes
+     * @throws IOException If fails
+     */
+    private Once.Source<Changes> changes(final Map<String, String> before,
+        final Snapshot snapshot) throws IOException {
+        final Once.Source<Changes> source;
+        if (this.settings.tracked()) {
+            final Changes changes = new DtChanges(before, snapshot.files());
+            source = () -> changes;
+        } else {
+            source = () -> {
+                throw new IllegalStateException(
+                    "Changes are not tracked, call Farea.withChanges() before the build"
+                );
+            };
         }
+        return source;
     }
 
-    private int jaxec(final String[] args, final Path log) {
-        return new Jaxec()
-            .with(Farea.mvn())
-            .with(this.opts)
-            .with(args)
-            .withHome(this.home)
-            .withCheck(false)
-            .withRedirect(true)
-            .withStdout(ProcessBuilder.Redirect.to(log.toFile()))
-            .exec()
-            .code();
-    }
-
-    private Long tail(final Path log, final AtomicBoolean finished) throws IOException {
-        long pos = 0L;
-        while (!finished.get()) {
-            if (!log.toFile().exists()) {
-                continue;
-            }
-            try (RandomAccessFile reader = new RandomAccessFile(log.toFile(), "r")) {
-                final long length = log.toFile().length();
-                if (length < pos) {
-                    break;
-                }
-                if (length > pos) {
-                    reader.seek(pos);
-                    while (true) {
-                        final String line = reader.readLine();
-                        if (line == null) {
-                            break;
-                        }
-                        Logger.debug(this, line);
-                    }
-                    pos = reader.getFilePointer();
-                }
-            }
-            Farea.sleep();
+    private Process mvn(final String[] args, final Path log, final Path jfr)
+        throws IOException {
+        final List<String> cmd = new ArrayList<>(Farea.mvn());
+        cmd.addAll(this.opts);
+        cmd.addAll(Arrays.asList(args));
+        Logger.debug(this, "+ %s", String.join(" ", cmd));
+        final ProcessBuilder builder = new ProcessBuilder(cmd)
+            .directory(this.home.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.to(log.toFile()));
+        this.settings.jfr(builder.environment(), jfr);
+        return builder.start();
+    }
+
+    /**
+     * Take the results of an identical build, executed in another home.
+     * @param twin The copy of {@code target/} and {@code log.txt} of the identical build
+     * @param result The result of it
+     * @param log The log to save to
+     * @param run The directory of this run in the history
+     * @return Exit code
+     * @throws IOException If fails
+     */
+    private int land(final Path twin, final BuildResult result, final Path log,
+        final Path run) throws IOException {
+        final Path target = twin.resolve("target");
+        if (target.toFile().isDirectory()) {
+            new Tree(target).cloneTo(this.home.resolve("target"));
+        }
+        final Path copy = twin.resolve("log.txt");
+        if (copy.toFile().exists()) {
+            Files.copy(copy, log, StandardCopyOption.REPLACE_EXISTING);
+        }
+        final Path jfr = twin.resolve("maven.jfr");
+        if (jfr.toFile().exists()) {
+            Files.copy(jfr, run.resolve("maven.jfr"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Logger.debug(
+            this, "Identical build, copied to %[file]s, exited with %d, its results taken",
+            twin, result.code()
+        );
+        return result.code();
+    }
+
+    private static int watch(final Process process, final Tail tail,
+        final Sampler sampler) {
+        final CountDownLatch finished = new CountDownLatch(1);
+        final Thread terminal = new Thread(
+            new VerboseRunnable(
+                () -> Farea.tail(tail, sampler, finished)
+            )
+        );
+        terminal.start();
+        try {
+            return Farea.waitFor(process);
+        } finally {
+            finished.countDown();
+            Farea.join(terminal);
         }
+    }
+
+    private static int waitFor(final Process process) {
+        try {
+            return process.waitFor();
+        } catch (final InterruptedException ex) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long tail(final Tail tail, final Sampler sampler,
+        final CountDownLatch finished) throws IOException {
+        long pos;
+        do {
+            sampler.sample();
+            pos = tail.poll();
+        } while (!Farea.await(finished));
         return pos;
     }
 
-    private static void sleep() {
+    private static boolean await(final CountDownLatch latch) {
         try {
-            Thread.sleep(1000L);
+            return latch.await(250L, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
             throw new IllegalStateException(ex);
@@ -385,7 +853,12 @@ public final class Farea {
         }
     }
 
-    private Pom pom() throws IOException {
+    /**
+     * The {@code pom.xml} of the reactor, created if absent.
+     * @return The POM
+     * @throws IOException If fails
+     */
+    Pom pom() throws IOException {
         return new Pom(this.home.resolve("pom.xml")).init();
     }
 
@@ -401,6 +874,14 @@ public final class Farea {
         return cmd;
     }
 
+    private static String changes(final Changes changes) {
+        final Collection<String> lines = new ArrayList<>(0);
+        changes.added().forEach(file -> lines.add(String.format("+ %s", file)));
+        changes.modified().forEach(file -> lines.add(String.format("~ %s", file)));
+        changes.deleted().forEach(file -> lines.add(String.format("- %s", file)));
+        return String.join(System.lineSeparator(), lines);
+    }
+
     private static void log(final Level level, final String intro, final String body) {
         Logger.log(
             level,
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of writing files into the reactor, by {@link DtRequisite}.
+ *
+ * @since 0.16.0
+ */
+@Name("com.yegor256.farea.File")
+@Label("File Writing")
+@Category("Farea")
+@Description("Files written or copied into the reactor")
+final class FileEvent extends Event {
+
+    /**
+     * The operation, like "write" or "save".
+     */
+    @Label("Operation")
+    private final String operation;
+
+    /**
+     * The file or directory.
+     */
+    @Label("Path")
+    private final String path;
+
+    /**
+     * How many files written.
+     */
+    @Label("Files")
+    private long files;
+
+    /**
+     * How many bytes written.
+     */
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Ctor.
+     * @param opr The operation
+     * @param file The file or directory
+     */
+    FileEvent(final String opr, final Path file) {
+        super();
+        this.operation = opr;
+        this.path = file.toString();
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param total Files written
+     * @param size Bytes written
+     */
+    void done(final long total, final long size) {
+        if (this.shouldCommit()) {
+            this.files = total;
+            this.bytes = size;
+            this.commit();
+        }
+    }
+}
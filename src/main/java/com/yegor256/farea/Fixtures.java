@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Named snapshots of reactors, which may be restored into other homes.
+ *
+ * <p>A fixture is captured once, by copying the home directory of a reactor
+ * into a directory of its own, without the history of runs and the log.
+ * By default, fixtures are stored in {@code target/farea/fixtures},
+ * which may be changed by the {@code farea.fixtures} system property.
+ * Then, it may be restored many times, with reflinks or hard links,
+ * see {@link Tree#reflinkTo(Path)}.</p>
+ *
+ * <p>Since hard links share the content with the fixture, a file modified
+ * in place in a restored home, instead of being replaced, spoils
+ * the fixture. Files in {@code target/} directories of modules,
+ * which Maven plugins may write in place, are copied for this reason.
+ * Other files, if spoiled, are detected at the next restore, by the sizes
+ * and modification times of files, and an exception is thrown.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Fixtures {
+
+    /**
+     * Fixtures of this JVM.
+     */
+    static final Fixtures JVM = new Fixtures(
+        Paths.get(System.getProperty("farea.fixtures", "target/farea/fixtures"))
+    );
+
+    /**
+     * Allowed names of fixtures.
+     */
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    /**
+     * The directory with fixtures.
+     */
+    private final Path dir;
+
+    /**
+     * Signatures of files in fixtures, as they were captured, by names.
+     */
+    private final Map<String, Map<String, String>> prints;
+
+    /**
+     * Ctor.
+     * @param path The directory with fixtures
+     */
+    Fixtures(final Path path) {
+        this.dir = path;
+        this.prints = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Capture the home of a reactor, replacing the fixture with the same name.
+     * @param name The name of the fixture
+     * @param home The home of the reactor
+     * @throws IOException If fails
+     */
+    void capture(final String name, final Path home) throws IOException {
+        final Path fixture = this.fixture(name);
+        synchronized (this.prints) {
+            this.prints.remove(name);
+            Trash.JVM.erase(fixture);
+            final Volume volume = new Tree(home, ".farea", "log.txt").mirrorTo(fixture);
+            this.prints.put(name, new Snapshot(fixture, false).files());
+            Logger.debug(
+                this, "Fixture '%s' captured from %[file]s, %s",
+                name, home, volume
+            );
+        }
+    }
+
+    /**
+     * Restore the fixture into the home of a reactor.
+     * @param name The name of the fixture
+     * @param home The home of the reactor
+     * @return How many files restored
+     * @throws IOException If fails
+     */
+    long restore(final String name, final Path home) throws IOException {
+        final Map<String, String> before = this.prints.get(name);
+        if (before == null) {
+            throw new IllegalArgumentException(
+                String.format("The fixture '%s' was not captured in this JVM", name)
+            );
+        }
+        final Path fixture = this.fixture(name);
+        if (!before.equals(new Snapshot(fixture, false).files())) {
+            throw new IllegalStateException(
+                String.format(
+                    "The fixture '%s' in %s was modified, most probably through a hard link",
+                    name, fixture
+                )
+            );
+        }
+        final Volume volume = new Tree(fixture).reflinkTo(home);
+        Logger.debug(
+            this, "Fixture '%s' restored into %[file]s, %s",
+            name, home, volume
+        );
+        return volume.files();
+    }
+
+    /**
+     * Directory of the fixture.
+     * @param name The name of the fixture
+     * @return The directory
+     */
+    private Path fixture(final String name) {
+        if (!Fixtures.NAME.matcher(name).matches() || name.startsWith(".")) {
+            throw new IllegalArgumentException(
+                String.format("Invalid name of a fixture: '%s'", name)
+            );
+        }
+        return this.dir.resolve(name);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A seat on a flight of identical builds, taken from {@link Flights}.
+ *
+ * <p>The first build with a given fingerprint is the leader: it runs
+ * Maven and then lands the flight, letting all others know where its
+ * results are. All other builds with the same fingerprint, started
+ * while the leader is in the air, wait for it and take its results.</p>
+ *
+ * <p>When the leader lands with followers on board, it copies its
+ * {@code target/}, {@code log.txt}, and {@code maven.jfr} (if any)
+ * to a temporary directory,
+ * owned by the flight, since the home of the leader may be changed
+ * by its next build at any moment. The last follower, which
+ * {@link #release()}s its seat, deletes this copy.</p>
+ *
+ * @since 0.16.0
+ */
+final class Flight {
+
+    /**
+     * All flights.
+     */
+    private final Flights flights;
+
+    /**
+     * Fingerprint of the build.
+     */
+    private final String print;
+
+    /**
+     * The copy of the results of the leader and its result, when it lands.
+     */
+    private final CompletableFuture<Map.Entry<Path, BuildResult>> future;
+
+    /**
+     * How many followers haven't released their seats yet.
+     */
+    private final AtomicInteger crew;
+
+    /**
+     * Is it the leader?
+     */
+    private final boolean leader;
+
+    /**
+     * Ctor of the leader.
+     * @param all All flights
+     * @param fingerprint Fingerprint of the build
+     */
+    Flight(final Flights all, final String fingerprint) {
+        this(all, fingerprint, new CompletableFuture<>(), new AtomicInteger(0), true);
+    }
+
+    /**
+     * Ctor.
+     * @param all All flights
+     * @param fingerprint Fingerprint of the build
+     * @param ftr The copy of the results of the leader and its result
+     * @param followers How many followers haven't released their seats yet
+     * @param first Is it the leader?
+     */
+    private Flight(final Flights all, final String fingerprint,
+        final CompletableFuture<Map.Entry<Path, BuildResult>> ftr,
+        final AtomicInteger followers, final boolean first) {
+        this.flights = all;
+        this.print = fingerprint;
+        this.future = ftr;
+        this.crew = followers;
+        this.leader = first;
+    }
+
+    /**
+     * Take one more seat on this flight, for a follower.
+     *
+     * <p>It must be called only while the leader is in the air,
+     * see {@link Flights#take(String)}.</p>
+     *
+     * @return The seat of the follower
+     */
+    Flight follower() {
+        this.crew.incrementAndGet();
+        return new Flight(this.flights, this.print, this.future, this.crew, false);
+    }
+
+    /**
+     * Wait for the leader, if it's not the leader.
+     *
+     * <p>If the leader fails to land, because of an exception,
+     * nothing is returned, and the build must be executed as usual.</p>
+     *
+     * @return The copy of the results of the leader and its result,
+     *  or nothing if it's the leader
+     */
+    Optional<Map.Entry<Path, BuildResult>> twin() {
+        Optional<Map.Entry<Path, BuildResult>> twin = Optional.empty();
+        if (!this.leader) {
+            try {
+                twin = Optional.of(this.future.get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } catch (final ExecutionException ex) {
+                twin = Optional.empty();
+            }
+        }
+        return twin;
+    }
+
+    /**
+     * Land the flight, if it's the leader.
+     *
+     * <p>If the copy of the results can't be made, the flight is
+     * aborted, and followers run their builds as usual.</p>
+     *
+     * @param home The home of the leader
+     * @param run The directory of the run of the leader in its history
+     * @param result The result of the build
+     */
+    void land(final Path home, final Path run, final BuildResult result) {
+        if (this.leader) {
+            this.flights.remove(this.print, this);
+            if (this.crew.get() == 0) {
+                this.future.complete(new AbstractMap.SimpleImmutableEntry<>(home, result));
+            } else {
+                try {
+                    this.future.complete(
+                        new AbstractMap.SimpleImmutableEntry<>(
+                            Flight.stash(home, run), result
+                        )
+                    );
+                } catch (final IOException ex) {
+                    Logger.warn(
+                        this, "Failed to share the results of %[file]s: %[exception]s",
+                        home, ex
+                    );
+                    this.future.completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Abort the flight, if it's the leader.
+     * @param error The reason
+     */
+    void abort(final Throwable error) {
+        if (this.leader) {
+            this.flights.remove(this.print, this);
+            this.future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Release the seat, if it's a follower, after its results are taken.
+     *
+     * <p>The last follower deletes the copy of the results of the leader.</p>
+     *
+     * @throws IOException If fails
+     */
+    void release() throws IOException {
+        if (!this.leader && this.crew.decrementAndGet() == 0
+            && this.future.isDone() && !this.future.isCompletedExceptionally()) {
+            Trash.JVM.dispose(this.future.join().getKey());
+        }
+    }
+
+    /**
+     * Copy the results of the leader to a temporary directory.
+     * @param home The home of the leader
+     * @param run The directory of the run of the leader in its history
+     * @return The directory with {@code target/}, {@code log.txt},
+     *  and {@code maven.jfr}
+     * @throws IOException If fails
+     */
+    private static Path stash(final Path home, final Path run) throws IOException {
+        final Path stash = Files.createTempDirectory("farea-flight-");
+        final Path target = home.resolve("target");
+        if (target.toFile().isDirectory()) {
+            new Tree(target).copyTo(stash.resolve("target"));
+        }
+        final Path log = home.resolve("log.txt");
+        if (log.toFile().exists()) {
+            Files.copy(log, stash.resolve("log.txt"));
+        }
+        final Path jfr = run.resolve("maven.jfr");
+        if (jfr.toFile().exists()) {
+            Files.copy(jfr, stash.resolve("maven.jfr"));
+        }
+        return stash;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Identical builds in flight, by their fingerprints.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Flights {
+
+    /**
+     * Flights of this JVM.
+     */
+    static final Flights JVM = new Flights();
+
+    /**
+     * Leaders in the air, by fingerprints.
+     */
+    private final ConcurrentMap<String, Flight> air;
+
+    /**
+     * Ctor.
+     */
+    Flights() {
+        this.air = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Take a seat on a flight.
+     *
+     * <p>If there is no build with this fingerprint in the air, the seat
+     * of the leader is returned. An empty fingerprint always makes
+     * a leader, which flies alone.</p>
+     *
+     * @param print The fingerprint of the build
+     * @return The seat
+     */
+    Flight take(final String print) {
+        final Flight mine = new Flight(this, print);
+        final AtomicReference<Flight> seat = new AtomicReference<>(mine);
+        if (!print.isEmpty()) {
+            this.air.compute(
+                print,
+                (key, before) -> {
+                    Flight leader = mine;
+                    if (before != null) {
+                        leader = before;
+                        seat.set(before.follower());
+                    }
+                    return leader;
+                }
+            );
+        }
+        return seat.get();
+    }
+
+    /**
+     * Remove the leader from the air.
+     * @param print The fingerprint of the build
+     * @param leader The leader
+     */
+    void remove(final String print, final Flight leader) {
+        this.air.remove(print, leader);
+    }
+}
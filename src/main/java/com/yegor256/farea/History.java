@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+
+/**
+ * History of Maven builds executed in the reactor.
+ *
+ * <p>Every call to {@link Farea#exec(String...)} is recorded as a new run,
+ * numbered from one. The {@code log.txt} file in the home directory
+ * always contains the log of the latest run, while logs of all previous
+ * runs stay available here:</p>
+ *
+ * <pre>
+ * farea.exec("compile");
+ * farea.execQuiet("test");
+ * String first = farea.history().log(1).content();
+ * int code = farea.history().code(2);
+ * Duration wall = farea.history().result(2).wall();
+ * </pre>
+ *
+ * @since 0.16.0
+ */
+public interface History {
+
+    /**
+     * How many runs have been recorded so far.
+     * @return Total number of runs
+     * @throws IOException If fails
+     */
+    int size() throws IOException;
+
+    /**
+     * Log of the run.
+     * @param run The number of the run, starting from one
+     * @return The log
+     * @throws IOException If fails
+     */
+    Requisite log(int run) throws IOException;
+
+    /**
+     * Exit code of the Maven process of the run.
+     * @param run The number of the run, starting from one
+     * @return The exit code
+     * @throws IOException If fails
+     */
+    int code(int run) throws IOException;
+
+    /**
+     * Result of the run.
+     * @param run The number of the run, starting from one
+     * @return The result
+     * @throws IOException If fails
+     */
+    BuildResult result(int run) throws IOException;
+}
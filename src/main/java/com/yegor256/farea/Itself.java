@@ -100,6 +100,8 @@ final class Itself {
      * @throws IOException If fails
      */
     String deploy(final Path local) throws IOException {
+        final DeployEvent event = new DeployEvent(local);
+        event.begin();
         final String version = this.next();
         final Path place = local.resolve(
             String.format(
@@ -128,6 +130,7 @@ final class Itself {
         } finally {
             Itself.LOCK.unlock();
         }
+        event.done(version);
         return version;
     }
 
@@ -144,7 +147,11 @@ final class Itself {
         Files.createFile(zip);
         final Set<String> seen = new HashSet<>(0);
         final String[] jars = this.classpath.split(File.pathSeparator);
-        if (!this.zip(version, zip, seen, jars) && this.careful) {
+        final JarEvent event = new JarEvent(zip);
+        event.begin();
+        final boolean descripted = this.zip(version, zip, seen, jars);
+        event.done(seen.size());
+        if (!descripted && this.careful) {
             throw new IllegalStateException(
                 String.join(
                     " ",
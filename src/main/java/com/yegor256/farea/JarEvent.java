@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of packaging the classpath into a JAR, by {@link Itself}.
+ *
+ * @since 0.16.0
+ */
+@Name("com.yegor256.farea.Jar")
+@Label("JAR Packaging")
+@Category("Farea")
+@Description("Classes of the classpath zipped into a plugin JAR")
+final class JarEvent extends Event {
+
+    /**
+     * The JAR.
+     */
+    @Label("Path")
+    private final String path;
+
+    /**
+     * How many files zipped.
+     */
+    @Label("Files")
+    private int files;
+
+    /**
+     * Size of the JAR.
+     */
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Ctor.
+     * @param jar The JAR
+     */
+    JarEvent(final Path jar) {
+        super();
+        this.path = jar.toString();
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param total Files zipped
+     */
+    void done(final int total) {
+        if (this.shouldCommit()) {
+            this.files = total;
+            this.bytes = Paths.get(this.path).toFile().length();
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listing of files in a directory, bounded by depth and count.
+ *
+ * <p>Entries are listed while the directory is being walked, until
+ * the limit of files is reached; directories are listed too, but they
+ * don't count. Beyond the limit, files are only counted and their
+ * sizes summed up, which ends the listing with a summary line, like
+ * {@code "... 1234 more file(s), 56.7Mb"}, and is reported to the debug log.
+ * Thus, the size of the listing doesn't depend on the size of the tree.</p>
+ *
+ * <p>Paths are relative to the base, which may be the directory itself
+ * or any of its parents.</p>
+ *
+ * @since 0.16.0
+ */
+final class Listing {
+
+    /**
+     * The base, which paths are relative to.
+     */
+    private final Path base;
+
+    /**
+     * The directory to list.
+     */
+    private final Path root;
+
+    /**
+     * Max depth of directories to go into.
+     */
+    private final int depth;
+
+    /**
+     * Max number of files to list.
+     */
+    private final int max;
+
+    /**
+     * Glob pattern, which entries, relative to the root, must match.
+     */
+    private final String glob;
+
+    /**
+     * Show sizes of files?
+     */
+    private final boolean sizes;
+
+    /**
+     * Ctor.
+     * @param home The base, which paths are relative to
+     * @param dir The directory to list
+     * @param count Max number of files to list
+     */
+    Listing(final Path home, final Path dir, final int count) {
+        this(home, dir, Integer.MAX_VALUE, count, "**", false);
+    }
+
+    /**
+     * Ctor.
+     * @param home The base, which paths are relative to
+     * @param dir The directory to list
+     * @param levels Max depth of directories to go into
+     * @param count Max number of files to list
+     * @param pattern Glob pattern, which entries must match, like {@code "**.class"}
+     * @param size Show sizes of files?
+     */
+    Listing(final Path home, final Path dir, final int levels, final int count,
+        final String pattern, final boolean size) {
+        this.base = home;
+        this.root = dir;
+        this.depth = levels;
+        this.max = count;
+        this.glob = pattern;
+        this.sizes = size;
+    }
+
+    /**
+     * Make the listing.
+     * @param delimiter The delimiter between lines
+     * @return The listing
+     * @throws IOException If fails
+     */
+    String text(final CharSequence delimiter) throws IOException {
+        final StringJoiner out = new StringJoiner(delimiter);
+        final AtomicLong listed = new AtomicLong();
+        final AtomicLong skipped = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher(
+            String.format("glob:%s", this.glob)
+        );
+        Files.walkFileTree(
+            this.root,
+            EnumSet.noneOf(FileVisitOption.class),
+            this.depth,
+            new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir,
+                    final BasicFileAttributes attrs) {
+                    this.visitFile(dir, attrs);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file,
+                    final BasicFileAttributes attrs) {
+                    if (!file.equals(Listing.this.root)
+                        && matcher.matches(Listing.this.root.relativize(file))) {
+                        if (listed.get() < Listing.this.max) {
+                            out.add(Listing.this.line(file, attrs));
+                            if (!attrs.isDirectory()) {
+                                listed.incrementAndGet();
+                            }
+                        } else if (!attrs.isDirectory()) {
+                            skipped.incrementAndGet();
+                            bytes.addAndGet(attrs.size());
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            }
+        );
+        if (skipped.get() > 0L) {
+            Logger.debug(
+                this, "Listing of %[file]s truncated at %d file(s), %d more not shown",
+                this.root, this.max, skipped.get()
+            );
+            out.add(
+                Logger.format(
+                    "... %d more file(s), %[size]s", skipped.get(), bytes.get()
+                )
+            );
+        }
+        return out.toString();
+    }
+
+    /**
+     * Make a line for the entry.
+     * @param file The entry
+     * @param attrs Its attributes
+     * @return The line
+     */
+    private String line(final Path file, final BasicFileAttributes attrs) {
+        final String name = this.base.relativize(file).toString();
+        final String line;
+        if (this.sizes && !attrs.isDirectory()) {
+            line = Logger.format("%s (%[size]s)", name, attrs.size());
+        } else {
+            line = name;
+        }
+        return line;
+    }
+}
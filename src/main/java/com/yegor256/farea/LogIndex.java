@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Index of a Maven log, made in one pass over it.
+ *
+ * @since 0.16.0
+ */
+public interface LogIndex {
+
+    /**
+     * Total number of lines in the log.
+     * @return Number of lines
+     */
+    long lines();
+
+    /**
+     * Mojo executions, in the order they happened.
+     *
+     * <p>Each of them looks like
+     * {@code "compiler:3.11.0:compile (default-compile) @ test"}.</p>
+     *
+     * @return Executions of mojos
+     */
+    Collection<String> mojos();
+
+    /**
+     * All lines that start with {@code [WARNING]}.
+     * @return Warnings
+     */
+    Collection<String> warnings();
+
+    /**
+     * All lines that start with {@code [ERROR]}.
+     * @return Errors
+     */
+    Collection<String> errors();
+
+    /**
+     * Statuses of modules, found in the "Reactor Summary" of a multi-module
+     * build, in the order they are listed there.
+     *
+     * <p>Keys are names of modules, while values are either
+     * {@code "SUCCESS"}, {@code "FAILURE"}, or {@code "SKIPPED"}.
+     * The map is empty if the build has only one module.</p>
+     *
+     * @return Statuses of modules, by their names
+     * @since 0.16.0
+     */
+    Map<String, String> modules();
+}
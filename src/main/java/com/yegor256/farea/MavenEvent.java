@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of waiting for Maven, in {@link Farea#exec(String...)}.
+ *
+ * @since 0.16.0
+ */
+@Name("com.yegor256.farea.Maven")
+@Label("Maven Build")
+@Category("Farea")
+@Description("Maven process started and waited for")
+final class MavenEvent extends Event {
+
+    /**
+     * The home.
+     */
+    @Label("Path")
+    private final String path;
+
+    /**
+     * Command line arguments.
+     */
+    @Label("Arguments")
+    private final String args;
+
+    /**
+     * Exit code.
+     */
+    @Label("Exit Code")
+    private int code;
+
+    /**
+     * Size of the log.
+     */
+    @Label("Log Size")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Ctor.
+     * @param home The home
+     * @param argv Command line arguments
+     */
+    MavenEvent(final Path home, final String... argv) {
+        super();
+        this.path = home.toString();
+        this.args = String.join(" ", argv);
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param exit Exit code
+     * @param size Size of the log
+     */
+    void done(final int exit, final long size) {
+        if (this.shouldCommit()) {
+            this.code = exit;
+            this.bytes = size;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+
+/**
+ * Module of a multi-module reactor.
+ *
+ * <p>Each module lives in its own sub-directory of the reactor, with its
+ * own {@code pom.xml}, whose parent is the {@code pom.xml} of the reactor.
+ * Many scenarios may be put into modules and then built by one Maven
+ * process, paying for the start of Maven only once. The
+ * {@code --fail-at-end} option replaces the default {@code --fail-fast},
+ * letting all modules build, even if some of them fail:</p>
+ *
+ * <pre>
+ * farea.withOpt("-T4");
+ * farea.withOpt("--fail-at-end");
+ * farea.module("a").files().file("src/main/java/A.java").write(...);
+ * farea.module("b").dependencies().append("org.cactoos", "cactoos", "0.55.0");
+ * farea.execQuiet("compile");
+ * String status = farea.module("b").status();
+ * String log = farea.module("b").log();
+ * </pre>
+ *
+ * @since 0.16.0
+ */
+public interface Module {
+
+    /**
+     * Access to files of the module.
+     * @return Files in the directory of the module
+     */
+    Requisites files();
+
+    /**
+     * Access to properties of the module.
+     * @return Properties in its pom.xml
+     * @throws IOException If fails
+     */
+    Properties properties() throws IOException;
+
+    /**
+     * Access to the build of the module.
+     * @return Build
+     * @throws IOException If fails
+     */
+    Build build() throws IOException;
+
+    /**
+     * Access to dependencies of the module.
+     * @return Dependencies
+     * @throws IOException If fails
+     */
+    Dependencies dependencies() throws IOException;
+
+    /**
+     * Status of the module in the latest build, taken from
+     * the "Reactor Summary" in the {@code log.txt}.
+     * @return Either "SUCCESS", "FAILURE", or "SKIPPED"
+     * @throws IOException If fails
+     */
+    String status() throws IOException;
+
+    /**
+     * Lines of the {@code log.txt} of the latest build, which were printed
+     * while this module was being built.
+     *
+     * <p>When modules are built in parallel, with {@code -T}, their
+     * lines are interleaved in the log, and some of them may get into
+     * the log of a wrong module.</p>
+     *
+     * @return The lines, separated by line separators
+     * @throws IOException If fails
+     */
+    String log() throws IOException;
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Value, which is computed on the first request and then cached.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @param <T> Type of value
+ * @since 0.16.0
+ */
+final class Once<T> {
+
+    /**
+     * The source of the value.
+     */
+    private final Once.Source<T> source;
+
+    /**
+     * The value, if already computed.
+     */
+    private final List<T> cache;
+
+    /**
+     * Ctor.
+     * @param src The source of the value
+     */
+    Once(final Once.Source<T> src) {
+        this.source = src;
+        this.cache = new ArrayList<>(1);
+    }
+
+    /**
+     * Get the value, computing it if necessary.
+     * @return The value
+     * @throws IOException If fails
+     */
+    T value() throws IOException {
+        synchronized (this.cache) {
+            if (this.cache.isEmpty()) {
+                this.cache.add(this.source.value());
+            }
+            return this.cache.get(0);
+        }
+    }
+
+    /**
+     * Source of a value.
+     * @param <V> Type of value
+     * @since 0.16.0
+     */
+    @FunctionalInterface
+    interface Source<V> {
+
+        /**
+         * Compute the value.
+         * @return The value
+         * @throws IOException If fails
+         */
+        V value() throws IOException;
+    }
+}
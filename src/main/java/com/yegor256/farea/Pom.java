@@ -110,14 +110,16 @@ final class Pom {
                 this.path.toFile().getParentFile()
             );
         }
+        final PomEvent event = new PomEvent(this.path);
+        event.begin();
         this.lock.lock();
         try {
-            Files.write(
-                this.path,
-                new XMLDocument(
-                    new Xembler(dirs).applyQuietly(this.before().inner())
-                ).toString().getBytes(StandardCharsets.UTF_8)
-            );
+            final byte[] bytes = new XMLDocument(
+                new Xembler(dirs).applyQuietly(this.before().inner())
+            ).toString().getBytes(StandardCharsets.UTF_8);
+            Files.deleteIfExists(this.path);
+            Files.write(this.path, bytes);
+            event.done(dirs, bytes.length);
         } finally {
             this.lock.unlock();
         }
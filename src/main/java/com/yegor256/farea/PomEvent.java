@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.nio.file.Path;
+import java.util.stream.StreamSupport;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a modification of a {@code pom.xml}, by {@link Pom#modify(Iterable)}.
+ *
+ * @since 0.16.0
+ */
+@Name("com.yegor256.farea.Pom")
+@Label("POM Modification")
+@Category("Farea")
+@Description("Xembly directives applied to a pom.xml")
+final class PomEvent extends Event {
+
+    /**
+     * The file.
+     */
+    @Label("Path")
+    private final String path;
+
+    /**
+     * How many directives applied.
+     */
+    @Label("Directives")
+    private int directives;
+
+    /**
+     * How many bytes written.
+     */
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    PomEvent(final Path file) {
+        super();
+        this.path = file.toString();
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param dirs Directives applied
+     * @param size Bytes written
+     */
+    void done(final Iterable<?> dirs, final long size) {
+        if (this.shouldCommit()) {
+            this.directives = (int) StreamSupport.stream(dirs.spliterator(), false).count();
+            this.bytes = size;
+            this.commit();
+        }
+    }
+}
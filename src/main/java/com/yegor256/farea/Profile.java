@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of a JFR recording of the Maven JVM.
+ *
+ * <p>It is available only if {@link Farea#withJfr()} was called
+ * before the build:</p>
+ *
+ * <pre>
+ * farea.withJfr();
+ * Profile profile = farea.exec("compile").profile();
+ * Map&lt;String, Long&gt; hot = profile.methods(10);
+ * </pre>
+ *
+ * <p>The recording itself is saved as {@code maven.jfr} next to the log
+ * of the run, in the {@code .farea/runs} directory, and may be opened
+ * in JDK Mission Control.</p>
+ *
+ * @since 0.16.0
+ */
+public interface Profile {
+
+    /**
+     * The hottest methods, by the number of execution samples where
+     * they were at the top of the stack.
+     * @param max How many methods to return
+     * @return Methods, like {@code "java.lang.String.indexOf"}, and their
+     *  samples, the hottest first
+     */
+    Map<String, Long> methods(int max);
+
+    /**
+     * Classes that were allocated the most, by the total estimated size
+     * of their allocated objects.
+     * @param max How many classes to return
+     * @return Classes and bytes allocated, the heaviest first
+     */
+    Map<String, Long> allocations(int max);
+
+    /**
+     * Pauses of garbage collections, in the order they happened.
+     * @return Total pause of each collection
+     */
+    List<Duration> pauses();
+}
@@ -0,0 +1,229 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Homes of reactors in RAM, on a {@code tmpfs}, like {@code /dev/shm}.
+ *
+ * <p>All homes are created in the {@code farea-<pid>} directory
+ * inside the base, which is {@code /dev/shm} by default and may be
+ * changed by the {@code farea.ram} system property. The total size
+ * of files in there is limited by the budget, which is 1 GiB by default
+ * and may be changed by the {@code farea.ram.budget} system property,
+ * in bytes. When the budget is exhausted, or there is no {@code tmpfs}
+ * at all, homes are created on the disk, where they were requested.</p>
+ *
+ * <p>The budget is checked only when a new home is created, by walking
+ * all homes in RAM and summing up the sizes of their files, together
+ * with the free space of the {@code tmpfs}. If the {@code tmpfs} is too
+ * small for the budget, a warning is logged and the home is created
+ * on the disk. Files
+ * written to homes later, by builds, are not limited by the budget,
+ * but they count when the next home is created. The walk takes time
+ * proportional to the number of files in RAM, so the budget is a guard
+ * against filling up the {@code tmpfs}, not a quota.</p>
+ *
+ * <p>When the JVM exits, all homes in RAM are deleted.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Ram {
+
+    /**
+     * Homes in RAM of this JVM.
+     */
+    static final Ram JVM = new Ram(
+        Paths.get(System.getProperty("farea.ram", "/dev/shm")),
+        Long.getLong("farea.ram.budget", 1L << 30),
+        true
+    );
+
+    /**
+     * The directory with homes.
+     */
+    private final Path root;
+
+    /**
+     * Max total size of all files in homes, in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Delete all homes when the JVM exits?
+     */
+    private final boolean hook;
+
+    /**
+     * The hook is registered?
+     */
+    private final AtomicBoolean started;
+
+    /**
+     * Ctor.
+     * @param base The tmpfs
+     * @param bytes Max total size of all files in homes, in bytes
+     */
+    Ram(final Path base, final long bytes) {
+        this(base, bytes, false);
+    }
+
+    /**
+     * Ctor.
+     * @param base The tmpfs
+     * @param bytes Max total size of all files in homes, in bytes
+     * @param delete Delete all homes when the JVM exits?
+     */
+    Ram(final Path base, final long bytes, final boolean delete) {
+        this.root = base.resolve(String.format("farea-%d", ProcessHandle.current().pid()));
+        this.budget = bytes;
+        this.hook = delete;
+        this.started = new AtomicBoolean(false);
+    }
+
+    /**
+     * Make a new home in RAM, or return the one on the disk,
+     * if it's not possible.
+     *
+     * <p>This is the only place where the budget is checked.</p>
+     *
+     * @param dir The home on the disk
+     * @return The home, in RAM or on the disk
+     * @throws IOException If fails
+     */
+    Path home(final Path dir) throws IOException {
+        final Path base = this.root.getParent();
+        Path home = dir;
+        if (!Files.isDirectory(base) || !Files.isWritable(base)) {
+            Logger.debug(this, "There is no tmpfs at %[file]s, using %[file]s", base, dir);
+        } else {
+            final long used = this.used();
+            final long free = Files.getFileStore(base).getUsableSpace();
+            if (used >= this.budget) {
+                Logger.info(
+                    this, "RAM budget is exhausted (%[size]s used, %[size]s free), using %[file]s",
+                    used, free, dir
+                );
+            } else if (free < this.budget - used) {
+                Logger.warn(
+                    this,
+                    String.join(
+                        " ",
+                        "The tmpfs at %[file]s is too small for the RAM budget of %[size]s",
+                        "(%[size]s used, %[size]s free), using %[file]s"
+                    ),
+                    base, this.budget, used, free, dir
+                );
+            } else {
+                if (this.hook && this.started.compareAndSet(false, true)) {
+                    Runtime.getRuntime().addShutdownHook(
+                        new Thread(this::release, "farea-ram")
+                    );
+                }
+                Files.createDirectories(this.root);
+                home = Files.createTempDirectory(
+                    this.root, String.format("%s-", dir.getFileName())
+                );
+                Logger.debug(this, "Home for %[file]s created in RAM at %[file]s", dir, home);
+            }
+        }
+        return home;
+    }
+
+    /**
+     * Copy files from the home in RAM back to the disk.
+     * @param home The home in RAM
+     * @param dir The home on the disk
+     * @param globs Glob patterns of files to copy, like {@code "target/surefire-reports/**"}
+     * @return The volume copied
+     * @throws IOException If fails
+     */
+    Volume persist(final Path home, final Path dir, final Collection<String> globs)
+        throws IOException {
+        final Collection<PathMatcher> matchers = globs.stream()
+            .map(glob -> FileSystems.getDefault().getPathMatcher(String.format("glob:%s", glob)))
+            .collect(Collectors.toList());
+        final AtomicLong files = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+        Files.walkFileTree(
+            home,
+            new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file,
+                    final BasicFileAttributes attrs) throws IOException {
+                    final Path rel = home.relativize(file);
+                    if (matchers.stream().anyMatch(matcher -> matcher.matches(rel))) {
+                        final Path target = dir.resolve(rel.toString());
+                        Files.createDirectories(target.getParent());
+                        Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+                        files.incrementAndGet();
+                        bytes.addAndGet(attrs.size());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            }
+        );
+        final Volume volume = new Volume(files.get(), bytes.get());
+        Logger.info(this, "%s persisted from %[file]s to %[file]s", volume, home, dir);
+        return volume;
+    }
+
+    /**
+     * Total size of all files in all homes, measured right now.
+     * @return Size, in bytes
+     * @throws IOException If fails
+     */
+    private long used() throws IOException {
+        final AtomicLong used = new AtomicLong();
+        if (Files.isDirectory(this.root)) {
+            Files.walkFileTree(
+                this.root,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(final Path file,
+                        final BasicFileAttributes attrs) {
+                        used.addAndGet(attrs.size());
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(final Path file,
+                        final IOException exc) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                }
+            );
+        }
+        return used.get();
+    }
+
+    /**
+     * Delete all homes.
+     */
+    private void release() {
+        try {
+            Trash.JVM.erase(this.root);
+        } catch (final IOException ex) {
+            Logger.warn(this, "Failed to delete %[file]s: %s", this.root, ex.getMessage());
+        }
+    }
+}
@@ -5,7 +5,12 @@
 package com.yegor256.farea;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 /**
  * Requisite represents a file or directory in the Maven project workspace.
@@ -36,6 +41,51 @@ public interface Requisite {
      */
     Requisite write(byte[] content) throws IOException;
 
+    /**
+     * Write to file, streaming the content from the input.
+     *
+     * <p>The content is never kept in memory, which makes it possible
+     * to write very large files. The input is not closed.</p>
+     *
+     * @param input The input to read the content from
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisite write(InputStream input) throws IOException;
+
+    /**
+     * Write to file, letting the generator put the content straight
+     * into its channel.
+     *
+     * <pre>
+     * farea.files().file("src/main/resources/huge.txt").write(
+     *   channel -&gt; {
+     *     for (int idx = 0; idx &lt; 1_000_000; ++idx) {
+     *       channel.write(ByteBuffer.wrap("hello\n".getBytes()));
+     *     }
+     *   }
+     * );
+     * </pre>
+     *
+     * @param generator The generator of the content
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisite write(Requisite.Generator generator) throws IOException;
+
+    /**
+     * Make a file of the given size, filled with zeros, without
+     * writing them to the disk, if the file system supports
+     * sparse files.
+     * @param size The size of the file, in bytes
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisite sparse(long size) throws IOException;
+
     /**
      * Write to file.
      * @param content The content to write
@@ -55,6 +105,33 @@ public interface Requisite {
      */
     Requisite save(Path src) throws IOException;
 
+    /**
+     * Create requisite by hard-linking it to an existing file (or
+     * all files in a directory), without copying their bytes.
+     *
+     * <p>Files that can't be hard-linked, for example because they are
+     * on another file system, are copied. Since linked files share their
+     * content, they must not be modified in place. Files written
+     * through {@link #write(byte[])} are replaced, not modified, which
+     * is safe.</p>
+     *
+     * @param src The file/directory to link to
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisite link(Path src) throws IOException;
+
+    /**
+     * Create requisite by making symbolic links to an existing file (or
+     * all files in a directory), which is good for read-only fixtures.
+     * @param src The file/directory to link to
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisite symlink(Path src) throws IOException;
+
     /**
      * Read content.
      * @return The content of the file
@@ -62,6 +139,77 @@ public interface Requisite {
      */
     String content() throws IOException;
 
+    /**
+     * Read content lazily, line by line, in UTF-8.
+     *
+     * <p>The stream must be closed after use, since it keeps the file
+     * open:</p>
+     *
+     * <pre>
+     * try (Stream&lt;String&gt; lines = farea.files().file("target/report.xml").lines()) {
+     *   assert lines.anyMatch(line -&gt; line.contains("&lt;error"));
+     * }
+     * </pre>
+     *
+     * @return Lines of the file
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Stream<String> lines() throws IOException;
+
+    /**
+     * Open the file for reading, as a stream of bytes.
+     * @return The stream, which must be closed after use
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    InputStream inputStream() throws IOException;
+
+    /**
+     * Open the file for reading, as a channel, with random access.
+     * @return The channel, which must be closed after use
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    SeekableByteChannel channel() throws IOException;
+
+    /**
+     * Map the file into memory, read-only.
+     *
+     * <p>The content is not loaded into the heap, but paged in by the
+     * operating system when it's accessed.</p>
+     *
+     * @return The buffer
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    ByteBuffer mapped() throws IOException;
+
+    /**
+     * Size of the file.
+     * @return Size, in bytes
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    long size() throws IOException;
+
+    /**
+     * SHA-256 hash of the content, calculated without loading
+     * the entire file into memory.
+     * @return Hex representation of the hash, in lower case
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    String sha256() throws IOException;
+
+    /**
+     * Open the file as a ZIP archive, like a JAR, without extracting it.
+     * @return The archive, which must be closed after use
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Archive archive() throws IOException;
+
     /**
      * Show it in the log.
      * @throws IOException If fails
@@ -86,4 +234,19 @@ public interface Requisite {
      * @since 0.5.0
      */
     Path path();
+
+    /**
+     * Generator of the content of a file.
+     * @since 0.16.0
+     */
+    @FunctionalInterface
+    interface Generator {
+
+        /**
+         * Write the content to the channel.
+         * @param channel The channel of the file, which is empty
+         * @throws IOException If fails
+         */
+        void generate(FileChannel channel) throws IOException;
+    }
 }
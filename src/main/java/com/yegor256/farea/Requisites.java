@@ -5,6 +5,9 @@
 package com.yegor256.farea;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
 
 /**
  * Requisites provides access to files and directories in the Maven project workspace.
@@ -44,6 +47,95 @@ public interface Requisites {
      */
     Requisite log();
 
+    /**
+     * Write many files at once, in parallel.
+     *
+     * <p>This is much faster than writing them one by one, through
+     * {@link #file(String)}, since directories are created only once,
+     * for all files, and nothing is logged per file:</p>
+     *
+     * <pre>
+     * Map&lt;String, byte[]&gt; files = new HashMap&lt;&gt;();
+     * files.put("src/main/java/Foo.java", "class Foo {}".getBytes());
+     * files.put("src/main/java/Bar.java", "class Bar {}".getBytes());
+     * farea.files().seed(files);
+     * </pre>
+     *
+     * @param files Contents of files, by their names, relative to the home
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisites seed(Map<String, byte[]> files) throws IOException;
+
+    /**
+     * Copy a tree of resources from the classpath into the home.
+     *
+     * <p>For example, if there are resources {@code fixtures/foo/pom.xml}
+     * and {@code fixtures/foo/src/main/java/Foo.java}, the call to
+     * {@code seedFromClasspath("fixtures/foo/")} creates {@code pom.xml}
+     * and {@code src/main/java/Foo.java} in the home. Resources in JARs are
+     * read straight from their entries, without temporary copies. Such
+     * JARs must have entries for directories, as JARs made by Maven do.
+     * All directories and JARs with this prefix are merged.</p>
+     *
+     * @param prefix The prefix of resources, like {@code "fixtures/foo/"}
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisites seedFromClasspath(String prefix) throws IOException;
+
+    /**
+     * Unpack an archive into the home.
+     *
+     * <p>ZIP, TAR, and gzip-ed TAR archives are supported, their format
+     * is detected by the first bytes of the file. Entries are unpacked
+     * one by one, straight into their places, without intermediate files.</p>
+     *
+     * @param archive The archive
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisites importArchive(Path archive) throws IOException;
+
+    /**
+     * Unpack an archive from the stream into the home.
+     *
+     * <p>This is how a fixture may be unpacked right from test resources:</p>
+     *
+     * <pre>
+     * farea.files().importArchive(
+     *   this.getClass().getResourceAsStream("fixture.tar.gz")
+     * );
+     * </pre>
+     *
+     * @param input The stream with ZIP, TAR, or gzip-ed TAR, which is not closed
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisites importArchive(InputStream input) throws IOException;
+
+    /**
+     * Pack the entire home into an archive, except the history of builds.
+     *
+     * <p>This is helpful when a build fails on CI: the archive, together
+     * with the {@code pom.xml}, the {@code log.txt}, and the {@code target/},
+     * may be uploaded as an artifact and investigated later. The format
+     * is detected by the extension of the file: {@code .zip}, {@code .tar},
+     * {@code .tar.gz}, or {@code .tgz}. Only TAR keeps permissions of files
+     * and symbolic links; a home with symbolic links can't be packed
+     * into ZIP.</p>
+     *
+     * @param archive The archive to create
+     * @return Itself
+     * @throws IOException If fails
+     * @since 0.16.0
+     */
+    Requisites exportArchive(Path archive) throws IOException;
+
     /**
      * Access to a single file.
      * @param name File name
@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Bounded ring buffer of the most recent lines of a log.
+ *
+ * <p>It keeps no more than the given number of lines and, at the same
+ * time, no more than the given number of bytes. When either limit
+ * is exceeded, the oldest lines are dropped. The very last line
+ * is always kept, even if it alone is longer than the limit.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Ring {
+
+    /**
+     * Lines in the buffer, the oldest first.
+     */
+    private final Deque<String> lines;
+
+    /**
+     * Sizes of the lines, in bytes, in the same order.
+     */
+    private final Deque<Integer> sizes;
+
+    /**
+     * Max number of lines.
+     */
+    private final int max;
+
+    /**
+     * Max total size of lines, in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Total size of lines in the buffer, in bytes.
+     */
+    private long total;
+
+    /**
+     * Total number of lines ever seen.
+     */
+    private long seen;
+
+    /**
+     * Ctor.
+     * @param count Max number of lines to keep
+     * @param bytes Max total size of lines to keep, in bytes
+     */
+    Ring(final int count, final long bytes) {
+        this.lines = new ArrayDeque<>(Math.min(count, 1024));
+        this.sizes = new ArrayDeque<>(Math.min(count, 1024));
+        this.max = count;
+        this.limit = bytes;
+    }
+
+    /**
+     * Add a new line.
+     * @param line The line, without the line break
+     * @param bytes Its size in bytes
+     */
+    synchronized void add(final String line, final int bytes) {
+        this.lines.addLast(line);
+        this.sizes.addLast(bytes);
+        this.total += bytes;
+        ++this.seen;
+        while (this.lines.size() > 1
+            && (this.lines.size() > this.max || this.total > this.limit)) {
+            this.lines.removeFirst();
+            this.total -= this.sizes.removeFirst();
+        }
+    }
+
+    /**
+     * Lines in the buffer, the oldest first.
+     * @return The lines
+     */
+    synchronized Collection<String> lines() {
+        return new ArrayList<>(this.lines);
+    }
+
+    /**
+     * How many lines were dropped because of the limits.
+     * @return Number of lines not in the buffer anymore
+     */
+    synchronized long dropped() {
+        return this.seen - this.lines.size();
+    }
+
+    /**
+     * Lines in the buffer as a single text.
+     * @return The text, where lines are separated by line breaks
+     */
+    synchronized String text() {
+        return String.join(System.lineSeparator(), this.lines);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sampler of resources consumed by a process and all its descendants.
+ *
+ * <p>Every call to {@link #sample()} looks at the entire tree
+ * of processes and remembers the largest CPU time and I/O counters
+ * seen for each of them. Processes that finish between two samples
+ * are counted by their last sample only.</p>
+ *
+ * <p>Memory and threads are summed over all processes alive at the
+ * moment of a sample, and the largest sum is remembered. The peak
+ * resident memory of each process ({@code VmHWM}) is also taken into
+ * account, in order to catch short spikes between samples.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Sampler {
+
+    /**
+     * The root process.
+     */
+    private final ProcessHandle root;
+
+    /**
+     * The {@code /proc} directory.
+     */
+    private final Path proc;
+
+    /**
+     * CPU times of processes, by PID.
+     */
+    private final Map<Long, Duration> cpus;
+
+    /**
+     * Bytes read by processes, by PID.
+     */
+    private final Map<Long, Long> reads;
+
+    /**
+     * Bytes written by processes, by PID.
+     */
+    private final Map<Long, Long> writes;
+
+    /**
+     * Peak resident memory, in bytes, and peak number of threads.
+     */
+    private final long[] peaks;
+
+    /**
+     * Ctor.
+     * @param process The root process
+     */
+    Sampler(final ProcessHandle process) {
+        this(process, Paths.get("/proc"));
+    }
+
+    /**
+     * Ctor.
+     * @param process The root process
+     * @param dir The {@code /proc} directory
+     */
+    Sampler(final ProcessHandle process, final Path dir) {
+        this.root = process;
+        this.proc = dir;
+        this.cpus = new HashMap<>(0);
+        this.reads = new HashMap<>(0);
+        this.writes = new HashMap<>(0);
+        this.peaks = new long[2];
+    }
+
+    /**
+     * Take a sample.
+     */
+    synchronized void sample() {
+        final List<ProcessHandle> handles = Stream.concat(
+            Stream.of(this.root), this.root.descendants()
+        ).collect(Collectors.toList());
+        long rss = 0L;
+        long threads = 0L;
+        for (final ProcessHandle handle : handles) {
+            final long pid = handle.pid();
+            handle.info().totalCpuDuration().ifPresent(
+                cpu -> this.cpus.merge(pid, cpu, Sampler::max)
+            );
+            final Map<String, Long> status = this.numbers(pid, "status");
+            rss += status.getOrDefault("VmRSS", 0L) * 1024L;
+            threads += status.getOrDefault("Threads", 0L);
+            this.peaks[0] = Math.max(
+                this.peaks[0], status.getOrDefault("VmHWM", 0L) * 1024L
+            );
+            final Map<String, Long> io = this.numbers(pid, "io");
+            this.reads.merge(pid, io.getOrDefault("rchar", 0L), Math::max);
+            this.writes.merge(pid, io.getOrDefault("wchar", 0L), Math::max);
+        }
+        this.peaks[0] = Math.max(this.peaks[0], rss);
+        this.peaks[1] = Math.max(this.peaks[1], threads);
+    }
+
+    /**
+     * Total CPU time of all processes seen.
+     * @return The time
+     */
+    synchronized Duration cpu() {
+        return this.cpus.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * All resources consumed by all processes seen.
+     * @return The usage
+     */
+    synchronized DtUsage usage() {
+        return new DtUsage(
+            this.cpu(),
+            this.peaks[0],
+            (int) this.peaks[1],
+            this.reads.values().stream().mapToLong(Long::longValue).sum(),
+            this.writes.values().stream().mapToLong(Long::longValue).sum()
+        );
+    }
+
+    /**
+     * Read numbers from a file in {@code /proc/<pid>}.
+     *
+     * <p>Each line of the file is expected to look like
+     * {@code "VmHWM:   1024 kB"}. Lines without a number are ignored. If the file
+     * is absent or is not readable (the process is gone or belongs to
+     * another user), an empty map is returned.</p>
+     *
+     * @param pid The PID of the process
+     * @param name The name of the file
+     * @return Numbers found, by their names
+     */
+    private Map<String, Long> numbers(final long pid, final String name) {
+        final Map<String, Long> map = new HashMap<>(0);
+        final Path file = this.proc.resolve(Long.toString(pid)).resolve(name);
+        if (file.toFile().canRead()) {
+            try {
+                for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    final String[] parts = line.split(":\\s*", 2);
+                    if (parts.length == 2) {
+                        final String num = parts[1].split("\\s", 2)[0];
+                        if (num.matches("[0-9]+")) {
+                            map.put(parts[0], Long.parseLong(num));
+                        }
+                    }
+                }
+            } catch (final IOException ex) {
+                map.clear();
+            }
+        }
+        return map;
+    }
+
+    private static Duration max(final Duration before, final Duration after) {
+        final Duration max;
+        if (before.compareTo(after) > 0) {
+            max = before;
+        } else {
+            max = after;
+        }
+        return max;
+    }
+}
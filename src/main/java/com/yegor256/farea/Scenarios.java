@@ -0,0 +1,209 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scenarios executed in parallel, the longest first.
+ *
+ * <p>Each scenario is a {@link Farea.Script} running in its own
+ * {@link Farea}, which must have its own home directory:</p>
+ *
+ * <pre>
+ * new Scenarios(8)
+ *   .with("compiles", new Farea(dir.resolve("a")), f -&gt; f.exec("compile"))
+ *   .with("tests", new Farea(dir.resolve("b")), f -&gt; f.exec("test"))
+ *   .run();
+ * </pre>
+ *
+ * <p>The duration of every scenario is saved to
+ * {@code target/farea/scenarios.jsonl}. Next time, scenarios are started
+ * in the order of their previous durations, the longest first, which
+ * is the "longest processing time first" rule of scheduling: long scenarios
+ * don't land at the end of the run, when other workers are already idle.
+ * Scenarios never seen before are expected to take a minute, unless another
+ * default is provided.</p>
+ *
+ * <p>All scenarios are executed, even if some of them fail. Then,
+ * if at least one failed, an exception is thrown.</p>
+ *
+ * <p>The class is not thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+public final class Scenarios {
+
+    /**
+     * The store of durations.
+     */
+    private final Timings store;
+
+    /**
+     * How many scenarios to run in parallel.
+     */
+    private final int workers;
+
+    /**
+     * Expected duration of a scenario, which was never seen before.
+     */
+    private final Duration fallback;
+
+    /**
+     * Reactors of scenarios, by names.
+     */
+    private final Map<String, Farea> reactors;
+
+    /**
+     * Scripts of scenarios, by names.
+     */
+    private final Map<String, Farea.Script> scripts;
+
+    /**
+     * Ctor.
+     * @param threads How many scenarios to run in parallel
+     */
+    public Scenarios(final int threads) {
+        this(threads, Duration.ofMinutes(1L));
+    }
+
+    /**
+     * Ctor.
+     * @param threads How many scenarios to run in parallel
+     * @param dflt Expected duration of a scenario, which was never seen before
+     */
+    public Scenarios(final int threads, final Duration dflt) {
+        this(Paths.get("target/farea/scenarios.jsonl"), threads, dflt);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file to keep durations of scenarios in
+     * @param threads How many scenarios to run in parallel
+     * @param dflt Expected duration of a scenario, which was never seen before
+     */
+    public Scenarios(final Path file, final int threads, final Duration dflt) {
+        this.store = new Timings(file);
+        this.workers = threads;
+        this.fallback = dflt;
+        this.reactors = new LinkedHashMap<>(0);
+        this.scripts = new LinkedHashMap<>(0);
+    }
+
+    /**
+     * With one more scenario.
+     * @param name Unique name of the scenario
+     * @param farea The reactor to run it in
+     * @param script The script to run
+     * @return Itself
+     */
+    public Scenarios with(final String name, final Farea farea, final Farea.Script script) {
+        if (this.reactors.containsKey(name)) {
+            throw new IllegalArgumentException(
+                String.format("The scenario \"%s\" is already registered", name)
+            );
+        }
+        this.reactors.put(name, farea);
+        this.scripts.put(name, script);
+        return this;
+    }
+
+    /**
+     * Names of scenarios, in the order they will be started.
+     * @return Names, the longest scenario first
+     * @throws IOException If fails
+     */
+    public List<String> order() throws IOException {
+        final Map<String, Duration> known = this.store.durations();
+        final List<String> names = new ArrayList<>(this.reactors.keySet());
+        names.sort(
+            Comparator.comparing(
+                (String name) -> known.getOrDefault(name, this.fallback)
+            ).reversed()
+        );
+        return names;
+    }
+
+    /**
+     * Run them all and wait until they finish.
+     * @throws IOException If any of them fails
+     */
+    public void run() throws IOException {
+        final List<String> names = this.order();
+        final ExecutorService service = Executors.newFixedThreadPool(this.workers);
+        final Map<String, Future<?>> futures = new LinkedHashMap<>(0);
+        try {
+            for (final String name : names) {
+                futures.put(name, service.submit(() -> this.run(name)));
+            }
+            final Collection<Throwable> errors = new ArrayList<>(0);
+            for (final Map.Entry<String, Future<?>> ent : futures.entrySet()) {
+                try {
+                    ent.getValue().get();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                } catch (final ExecutionException ex) {
+                    errors.add(ex.getCause());
+                }
+            }
+            if (!errors.isEmpty()) {
+                final IOException ex = new IOException(
+                    String.format(
+                        "%d out of %d scenario(s) failed", errors.size(), names.size()
+                    )
+                );
+                errors.forEach(ex::addSuppressed);
+                throw ex;
+            }
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    private Duration run(final String name) throws IOException {
+        final long start = System.nanoTime();
+        int code = 1;
+        final Duration wall;
+        try {
+            this.reactors.get(name).together(this.scripts.get(name));
+            code = 0;
+        } finally {
+            wall = Duration.ofNanos(System.nanoTime() - start);
+            try {
+                this.store.add(
+                    new Timing(
+                        name, "", wall, code,
+                        new DtUsage(Duration.ZERO, 0L, 0, 0L, 0L)
+                    )
+                );
+            } catch (final IOException | RuntimeException ex) {
+                Logger.warn(
+                    this, "Failed to record the duration of \"%s\": %[exception]s",
+                    name, ex
+                );
+            }
+            Logger.debug(
+                this, "Scenario \"%s\" finished in %[ms]s with code %d",
+                name, wall.toMillis(), code
+            );
+        }
+        return wall;
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mutable settings of a reactor, configured through
+ * the {@code with*()} methods of {@link Farea}.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Settings {
+
+    /**
+     * Compress logs of previous runs?
+     */
+    private final AtomicBoolean gzip;
+
+    /**
+     * Max number of recent log lines to keep in memory.
+     */
+    private final AtomicInteger lines;
+
+    /**
+     * Max size of recent log lines to keep in memory, in bytes.
+     */
+    private final AtomicLong bytes;
+
+    /**
+     * Hash the content of files in snapshots?
+     */
+    private final AtomicBoolean sha;
+
+    /**
+     * Take snapshots of the reactor, to find out changes of builds?
+     */
+    private final AtomicBoolean track;
+
+    /**
+     * Record the Maven JVM with JFR?
+     */
+    private final AtomicBoolean flight;
+
+    /**
+     * Deduplicate identical builds in flight?
+     */
+    private final AtomicBoolean single;
+
+    /**
+     * Leave files with identical content untouched?
+     */
+    private final AtomicBoolean keep;
+
+    /**
+     * The home on the disk, if the reactor lives in RAM.
+     */
+    private final AtomicReference<Path> origin;
+
+    /**
+     * Glob patterns of files to persist on the disk after a failure.
+     */
+    private final Collection<String> globs;
+
+    /**
+     * Ctor.
+     */
+    Settings() {
+        this.gzip = new AtomicBoolean(false);
+        this.lines = new AtomicInteger(200);
+        this.bytes = new AtomicLong(64L * 1024L);
+        this.sha = new AtomicBoolean(false);
+        this.track = new AtomicBoolean(false);
+        this.flight = new AtomicBoolean(false);
+        this.single = new AtomicBoolean(false);
+        this.keep = new AtomicBoolean(false);
+        this.origin = new AtomicReference<>();
+        this.globs = new CopyOnWriteArrayList<>(Collections.singleton("log.txt"));
+    }
+
+    /**
+     * Enable or disable compression of old logs.
+     * @param flag TRUE if they must be compressed
+     */
+    void compress(final boolean flag) {
+        this.gzip.set(flag);
+    }
+
+    /**
+     * Shall old logs be compressed?
+     * @return TRUE if they must be compressed
+     */
+    boolean compressed() {
+        return this.gzip.get();
+    }
+
+    /**
+     * Set the limits of the recent log lines kept in memory.
+     * @param count Max number of lines
+     * @param size Max total size of lines, in bytes
+     */
+    void tail(final int count, final long size) {
+        this.lines.set(count);
+        this.bytes.set(size);
+    }
+
+    /**
+     * Make a new buffer for recent log lines.
+     * @return The buffer
+     */
+    Ring ring() {
+        return new Ring(this.lines.get(), this.bytes.get());
+    }
+
+    /**
+     * Enable or disable hashing of files in snapshots.
+     * @param flag TRUE if their content must be hashed
+     */
+    void hash(final boolean flag) {
+        this.sha.set(flag);
+    }
+
+    /**
+     * Enable or disable tracking of files changed by builds.
+     * @param flag TRUE if snapshots must be taken before and after builds
+     */
+    void changes(final boolean flag) {
+        this.track.set(flag);
+    }
+
+    /**
+     * Shall snapshots be taken before and after builds?
+     * @return TRUE if files changed by builds must be tracked
+     */
+    boolean tracked() {
+        return this.track.get();
+    }
+
+    /**
+     * Make a new snapshot of the reactor.
+     * @param home The home of the reactor
+     * @return The snapshot
+     */
+    Snapshot snapshot(final Path home) {
+        return new Snapshot(home, this.sha.get());
+    }
+
+    /**
+     * Enable or disable JFR recording of the Maven JVM.
+     * @param flag TRUE if it must be recorded
+     */
+    void record(final boolean flag) {
+        this.flight.set(flag);
+    }
+
+    /**
+     * Add JFR options to the environment of Maven, if necessary.
+     *
+     * <p>The options are appended to the {@code MAVEN_OPTS}, which
+     * only affects the JVM of Maven itself, not the JVMs it forks,
+     * like Surefire.</p>
+     *
+     * @param env The environment of the Maven process
+     * @param jfr The file to save the recording to
+     */
+    void jfr(final Map<String, String> env, final Path jfr) {
+        if (this.flight.get()) {
+            env.put(
+                "MAVEN_OPTS",
+                String.join(
+                    " ",
+                    env.getOrDefault("MAVEN_OPTS", ""),
+                    String.format(
+                        "-XX:StartFlightRecording=filename=%s,settings=profile,dumponexit=true",
+                        jfr.toAbsolutePath()
+                    )
+                ).trim()
+            );
+        }
+    }
+
+    /**
+     * Enable or disable deduplication of identical builds.
+     * @param flag TRUE if they must be deduplicated
+     */
+    void dedup(final boolean flag) {
+        this.single.set(flag);
+    }
+
+    /**
+     * Fingerprint of the build, if deduplication is enabled.
+     *
+     * <p>Besides the files of the reactor and the command line, it includes
+     * all settings, which affect the build or its outputs: recording
+     * of JFR, the {@code MAVEN_OPTS}, the tail of the log, compression
+     * of logs, and files to persist.</p>
+     *
+     * @param home The home of the reactor
+     * @param opts Maven options
+     * @param args Maven command line arguments
+     * @return The fingerprint, or empty string if deduplication is disabled
+     * @throws IOException If fails
+     */
+    String fingerprint(final Path home, final Collection<String> opts,
+        final String... args) throws IOException {
+        String print = "";
+        if (this.single.get()) {
+            final Collection<String> extra = new ArrayList<>(opts);
+            extra.add(String.format("jfr=%b", this.flight.get()));
+            extra.add(
+                String.format("MAVEN_OPTS=%s", System.getenv().getOrDefault("MAVEN_OPTS", ""))
+            );
+            extra.add(String.format("tail=%d/%d", this.lines.get(), this.bytes.get()));
+            extra.add(String.format("gzip=%b", this.gzip.get()));
+            extra.add(String.format("persisted=%s", String.join(",", this.globs)));
+            extra.add("--");
+            extra.addAll(Arrays.asList(args));
+            print = new Snapshot(home, false).fingerprint(extra);
+        }
+        return print;
+    }
+
+    /**
+     * Enable or disable writing of files only when their content changes.
+     * @param flag TRUE if files with identical content must be left untouched
+     */
+    void incremental(final boolean flag) {
+        this.keep.set(flag);
+    }
+
+    /**
+     * Make access to files in the reactor.
+     * @param home The home of the reactor
+     * @return Files
+     */
+    Requisites requisites(final Path home) {
+        return new DtRequisites(home, this.keep.get());
+    }
+
+    /**
+     * Remember the home on the disk, since the reactor lives in RAM.
+     * @param dir The home on the disk
+     */
+    void ram(final Path dir) {
+        this.origin.set(dir);
+    }
+
+    /**
+     * Add files to persist on the disk after a failure.
+     * @param patterns Glob patterns of files
+     */
+    void persisted(final String... patterns) {
+        this.globs.addAll(Arrays.asList(patterns));
+    }
+
+    /**
+     * Persist files on the disk after a failure, if the reactor lives in RAM.
+     * @param home The home of the reactor
+     * @throws IOException If fails
+     */
+    void persist(final Path home) throws IOException {
+        final Path dir = this.origin.get();
+        if (dir != null) {
+            Ram.JVM.persist(home, dir, this.globs);
+        }
+    }
+}
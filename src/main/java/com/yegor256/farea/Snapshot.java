@@ -0,0 +1,219 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Snapshot of all files in a reactor.
+ *
+ * <p>The entire directory is visited in one pass of
+ * {@link Files#walkFileTree(Path, java.nio.file.FileVisitor)}, reading only basic
+ * attributes of files. Every file gets a signature, made of its
+ * size and modification time. Optionally, a SHA-256 hash of the content
+ * is added to the signature, which makes snapshots much slower, but
+ * protects against file systems with coarse modification times.</p>
+ *
+ * @since 0.16.0
+ */
+final class Snapshot {
+
+    /**
+     * Home.
+     */
+    private final Path home;
+
+    /**
+     * Hash the content of files?
+     */
+    private final boolean hash;
+
+    /**
+     * Ctor.
+     * @param dir The home dir
+     * @param sha Hash the content of files?
+     */
+    Snapshot(final Path dir, final boolean sha) {
+        this.home = dir;
+        this.hash = sha;
+    }
+
+    /**
+     * Take the snapshot.
+     * @return Relative paths of files, with their signatures
+     * @throws IOException If fails
+     */
+    Map<String, String> files() throws IOException {
+        final Map<String, String> files = new HashMap<>(0);
+        this.walk(
+            false,
+            (name, file, attrs) -> files.put(name, this.signature(file, attrs))
+        );
+        return files;
+    }
+
+    /**
+     * Fingerprint of the content of the inputs of the build, which doesn't
+     * depend on their modification times or the location of the home.
+     *
+     * <p>Only the inputs are taken into account: POM files, sources,
+     * and everything else, except {@code target/} directories next to
+     * {@code pom.xml} files, which are the outputs of the build. Other
+     * directories named {@code target}, for example, somewhere
+     * in {@code src/}, are inputs. Every file is read only once.</p>
+     *
+     * @param extra Extra strings to include into the fingerprint
+     * @return SHA-256 hash, in hex
+     * @throws IOException If fails
+     */
+    String fingerprint(final Iterable<String> extra) throws IOException {
+        final Map<String, String> hashes = new TreeMap<>();
+        this.walk(true, (name, file, attrs) -> hashes.put(name, Snapshot.sha(file)));
+        final StringBuilder text = new StringBuilder(0);
+        for (final Map.Entry<String, String> ent : hashes.entrySet()) {
+            text.append(ent.getKey()).append('\0').append(ent.getValue()).append('\n');
+        }
+        for (final String item : extra) {
+            text.append(item).append('\n');
+        }
+        return Snapshot.sha(
+            new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    /**
+     * SHA-256 hash of the content of a file.
+     * @param file The file
+     * @return The hash, in hex
+     * @throws IOException If fails
+     */
+    static String sha(final Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return Snapshot.sha(input);
+        }
+    }
+
+    /**
+     * Visit all files of the home, except {@code .farea/} and {@code log.txt}.
+     * @param inputs Skip {@code target/} directories of modules too?
+     * @param visit What to do with every file
+     * @throws IOException If fails
+     */
+    private void walk(final boolean inputs, final Snapshot.Visit visit)
+        throws IOException {
+        if (this.home.toFile().isDirectory()) {
+            final Path meta = this.home.resolve(".farea");
+            final Path log = this.home.resolve("log.txt");
+            Files.walkFileTree(
+                this.home,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir,
+                        final BasicFileAttributes attrs) {
+                        final FileVisitResult res;
+                        if (dir.equals(meta) || inputs && Snapshot.output(dir)) {
+                            res = FileVisitResult.SKIP_SUBTREE;
+                        } else {
+                            res = FileVisitResult.CONTINUE;
+                        }
+                        return res;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file,
+                        final BasicFileAttributes attrs) throws IOException {
+                        if (!file.equals(log)) {
+                            visit.accept(
+                                Snapshot.this.home.relativize(file)
+                                    .toString().replace('\\', '/'),
+                                file, attrs
+                            );
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(final Path file,
+                        final IOException exc) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Is it the {@code target/} directory of a module?
+     * @param dir The directory
+     * @return TRUE if it's named {@code target} and there is a {@code pom.xml} next to it
+     */
+    static boolean output(final Path dir) {
+        return "target".equals(String.valueOf(dir.getFileName()))
+            && dir.resolveSibling("pom.xml").toFile().exists();
+    }
+
+    private String signature(final Path file, final BasicFileAttributes attrs)
+        throws IOException {
+        final StringBuilder sig = new StringBuilder(80)
+            .append(attrs.size())
+            .append('/')
+            .append(attrs.lastModifiedTime().toMillis());
+        if (this.hash) {
+            sig.append('/').append(Snapshot.sha(file));
+        }
+        return sig.toString();
+    }
+
+    private static String sha(final InputStream input) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final byte[] buf = new byte[64 * 1024];
+        while (true) {
+            final int len = input.read(buf);
+            if (len < 0) {
+                break;
+            }
+            digest.update(buf, 0, len);
+        }
+        final StringBuilder hex = new StringBuilder(64);
+        for (final byte bte : digest.digest()) {
+            hex.append(String.format("%02x", bte));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * What to do with a file, found by {@link Snapshot#walk(boolean, Visit)}.
+     *
+     * @since 0.16.0
+     */
+    private interface Visit {
+        /**
+         * Visit the file.
+         * @param name Relative path of the file
+         * @param file The file
+         * @param attrs Its attributes
+         * @throws IOException If fails
+         */
+        void accept(String name, Path file, BasicFileAttributes attrs) throws IOException;
+    }
+}
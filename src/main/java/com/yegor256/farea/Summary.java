@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Summary of resources consumed by all builds in this JVM.
+ *
+ * <p>Every build executed by {@link Farea} is added here. When the JVM
+ * exits, for example at the end of a test suite, the totals and
+ * the heaviest builds are printed to the log, at the INFO level.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Summary {
+
+    /**
+     * The summary of this JVM.
+     */
+    static final Summary JVM = new Summary(5, true);
+
+    /**
+     * How many heaviest builds to print.
+     */
+    private final int top;
+
+    /**
+     * Wall-clock times and usages of all builds seen, by their unique titles.
+     *
+     * <p>Results of builds are not kept, since they hold their logs,
+     * profiles, and snapshots, which would stay in memory until the JVM
+     * exits.</p>
+     */
+    private final Map<String, Map.Entry<Duration, Usage>> builds;
+
+    /**
+     * Is the shutdown hook registered already?
+     */
+    private final AtomicBoolean hooked;
+
+    /**
+     * Ctor.
+     * @param max How many heaviest builds to print
+     */
+    Summary(final int max) {
+        this(max, false);
+    }
+
+    /**
+     * Ctor.
+     * @param max How many heaviest builds to print
+     * @param print Print it to the log when the JVM exits?
+     */
+    Summary(final int max, final boolean print) {
+        this.top = max;
+        this.builds = new ConcurrentSkipListMap<>();
+        this.hooked = new AtomicBoolean(!print);
+    }
+
+    /**
+     * Add a build and register a shutdown hook, if it's required
+     * and is not registered yet.
+     * @param title Unique title of the build, like the home and the run number
+     * @param result The result of the build
+     */
+    void add(final String title, final BuildResult result) {
+        this.builds.put(
+            title, new AbstractMap.SimpleImmutableEntry<>(result.wall(), result.usage())
+        );
+        if (this.hooked.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(() -> Logger.info(Summary.class, "%s", this), "farea-summary")
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        final List<Map.Entry<String, Map.Entry<Duration, Usage>>> all =
+            new ArrayList<>(this.builds.entrySet());
+        final StringBuilder text = new StringBuilder(0).append(
+            Logger.format(
+                "Farea executed %d Maven build(s) in %[ms]s, CPU time %[ms]s, peak memory %dMb",
+                all.size(),
+                all.stream().map(e -> e.getValue().getKey())
+                    .reduce(Duration.ZERO, Duration::plus)
+                    .toMillis(),
+                all.stream().map(e -> e.getValue().getValue().cpu())
+                    .reduce(Duration.ZERO, Duration::plus)
+                    .toMillis(),
+                all.stream().mapToLong(e -> e.getValue().getValue().memory())
+                    .max().orElse(0L) / 1024L / 1024L
+            )
+        );
+        all.sort(
+            Comparator.comparing(
+                (Map.Entry<String, Map.Entry<Duration, Usage>> e) -> e.getValue().getValue().cpu()
+            ).reversed()
+        );
+        for (final Map.Entry<String, Map.Entry<Duration, Usage>> ent
+            : all.subList(0, Math.min(this.top, all.size()))) {
+            text.append(System.lineSeparator()).append(
+                Logger.format(
+                    "  %[ms]s, %s: %s",
+                    ent.getValue().getKey().toMillis(), ent.getValue().getValue(), ent.getKey()
+                )
+            );
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.xembly.Directives;
+
+/**
+ * Synthetic project of a given scale, for testing plugins on large reactors.
+ *
+ * <p>It generates Java classes with the given number of methods, which
+ * call methods of other classes of the same module, resources of the given
+ * size, dependencies, and modules:</p>
+ *
+ * <pre>
+ * new Synthetic()
+ *   .withClasses(5000, 20)
+ *   .withReferences(3)
+ *   .withResources(100, 4096)
+ *   .withDependencies(200)
+ *   .withModules(50)
+ *   .writeTo(farea);
+ * farea.exec("compile");
+ * </pre>
+ *
+ * <p>Classes and resources are spread among modules evenly. Dependencies
+ * are tiny JARs, named {@code synthetic:dep<i>:0.0.0}, which are deployed
+ * to a repository of their own, unless they are already there, and are
+ * added to the {@code pom.xml} of the reactor, together with this
+ * repository, as a {@code file://} one. By default, the repository
+ * is in the {@code farea-synthetic} directory inside {@code java.io.tmpdir}.
+ * Mind that Maven still copies them into its local repository, usually
+ * {@code ~/.m2/repository}, when it resolves them from there, just like
+ * any other dependency. When there are many modules,
+ * the {@code pom.xml} of the reactor becomes their parent, so its plugins
+ * and dependencies are inherited by all of them.</p>
+ *
+ * <p>The {@code pom.xml} of the reactor is modified only once, while
+ * files are written in parallel, in batches, through
+ * {@link Requisites#seed(Map)}. The same parameters always generate exactly
+ * the same project, which makes benchmarks repeatable.</p>
+ *
+ * <p>The class is not thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Synthetic {
+
+    /**
+     * How many files to keep in memory before writing them.
+     */
+    private static final int BATCH = 1000;
+
+    /**
+     * Maven repository, where dependencies are deployed.
+     */
+    private final Path local;
+
+    /**
+     * How many classes.
+     */
+    private int classes;
+
+    /**
+     * How many methods in each class.
+     */
+    private int methods;
+
+    /**
+     * How many other classes each class refers to.
+     */
+    private int refs;
+
+    /**
+     * How many resources.
+     */
+    private int resources;
+
+    /**
+     * Size of each resource, in bytes.
+     */
+    private int size;
+
+    /**
+     * How many dependencies.
+     */
+    private int deps;
+
+    /**
+     * How many modules.
+     */
+    private int modules;
+
+    /**
+     * Ctor, with the repository in the temporary directory.
+     */
+    public Synthetic() {
+        this(Paths.get(System.getProperty("java.io.tmpdir"), "farea-synthetic"));
+    }
+
+    /**
+     * Ctor.
+     * @param repo Maven repository, where dependencies are deployed
+     */
+    public Synthetic(final Path repo) {
+        this.local = repo;
+        this.methods = 1;
+        this.modules = 1;
+    }
+
+    /**
+     * With Java classes.
+     * @param count How many classes
+     * @param mtds How many methods in each class
+     * @return Itself
+     */
+    public Synthetic withClasses(final int count, final int mtds) {
+        this.classes = Synthetic.positive(count, "classes");
+        this.methods = Synthetic.positive(mtds, "methods");
+        return this;
+    }
+
+    /**
+     * With references of each class to other classes of the same module.
+     *
+     * <p>Each reference calls the first method of another class, that's
+     * why there must be at least one method in each class, if there
+     * are references.</p>
+     *
+     * @param count How many other classes each class refers to
+     * @return Itself
+     */
+    public Synthetic withReferences(final int count) {
+        this.refs = Synthetic.positive(count, "references");
+        return this;
+    }
+
+    /**
+     * With resources.
+     * @param count How many resources
+     * @param bytes Size of each resource, in bytes
+     * @return Itself
+     */
+    public Synthetic withResources(final int count, final int bytes) {
+        this.resources = Synthetic.positive(count, "resources");
+        this.size = Synthetic.positive(bytes, "bytes");
+        return this;
+    }
+
+    /**
+     * With dependencies.
+     * @param count How many dependencies
+     * @return Itself
+     */
+    public Synthetic withDependencies(final int count) {
+        this.deps = Synthetic.positive(count, "dependencies");
+        return this;
+    }
+
+    /**
+     * With modules.
+     * @param count How many modules, one means no modules at all
+     * @return Itself
+     */
+    public Synthetic withModules(final int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(
+                String.format("There must be at least one module, while %d requested", count)
+            );
+        }
+        this.modules = count;
+        return this;
+    }
+
+    /**
+     * Write the project into the reactor.
+     * @param farea The reactor
+     * @throws IOException If fails
+     */
+    public void writeTo(final Farea farea) throws IOException {
+        if (this.refs > 0 && this.methods < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "There must be at least one method in each class for %d reference(s)",
+                    this.refs
+                )
+            );
+        }
+        final long start = System.currentTimeMillis();
+        this.deploy();
+        if (this.deps > 0 || this.modules > 1) {
+            this.reactor(farea.pom());
+        }
+        final Requisites files = farea.files();
+        Map<String, byte[]> batch = new HashMap<>(Synthetic.BATCH);
+        if (this.modules > 1) {
+            final Pom pom = farea.pom();
+            final String parent = String.join(
+                "\n",
+                "  <parent>",
+                String.format(
+                    "    <groupId>%s</groupId>",
+                    pom.xpath("/project/groupId/text()").get(0)
+                ),
+                String.format(
+                    "    <artifactId>%s</artifactId>",
+                    pom.xpath("/project/artifactId/text()").get(0)
+                ),
+                String.format(
+                    "    <version>%s</version>",
+                    pom.xpath("/project/version/text()").get(0)
+                ),
+                "  </parent>"
+            );
+            for (int mod = 0; mod < this.modules; ++mod) {
+                batch.put(
+                    String.format("m%d/pom.xml", mod),
+                    Synthetic.module(parent, mod).getBytes(StandardCharsets.UTF_8)
+                );
+            }
+        }
+        for (int idx = 0; idx < this.classes; ++idx) {
+            batch.put(this.java(idx), this.klass(idx).getBytes(StandardCharsets.UTF_8));
+            batch = Synthetic.flush(files, batch);
+        }
+        for (int idx = 0; idx < this.resources; ++idx) {
+            batch.put(this.resource(idx), this.text(idx));
+            batch = Synthetic.flush(files, batch);
+        }
+        files.seed(batch);
+        Logger.debug(
+            this,
+            String.join(
+                " ",
+                "Synthetic project with %d classes, %d resources,",
+                "%d dependencies, and %d modules made in %[ms]s"
+            ),
+            this.classes, this.resources, this.deps, this.modules,
+            System.currentTimeMillis() - start
+        );
+    }
+
+    /**
+     * Modify the {@code pom.xml} of the reactor, in one go.
+     * @param pom The POM
+     * @throws IOException If fails
+     */
+    private void reactor(final Pom pom) throws IOException {
+        final Directives dirs = new Directives().xpath("/project");
+        if (this.modules > 1) {
+            dirs.addIf("packaging").set("pom").up().addIf("modules");
+            for (int mod = 0; mod < this.modules; ++mod) {
+                dirs.add("module").set(String.format("m%d", mod)).up();
+            }
+            dirs.up();
+        }
+        if (this.deps > 0) {
+            dirs.addIf("dependencies");
+            for (int dep = 0; dep < this.deps; ++dep) {
+                dirs.add("dependency")
+                    .add("groupId").set("synthetic").up()
+                    .add("artifactId").set(String.format("dep%d", dep)).up()
+                    .add("version").set("0.0.0").up()
+                    .up();
+            }
+            dirs.up().addIf("repositories")
+                .add("repository")
+                .add("id").set("farea-synthetic").up()
+                .add("url").set(this.local.toAbsolutePath().toUri().toString()).up()
+                .up().up();
+        }
+        pom.modify(dirs);
+    }
+
+    /**
+     * Deploy dependencies to the repository, in parallel.
+     * @throws IOException If fails
+     */
+    private void deploy() throws IOException {
+        try {
+            IntStream.range(0, this.deps).parallel().forEach(
+                dep -> {
+                    try {
+                        this.deploy(dep);
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            );
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Deploy one dependency to the repository, if it's not there.
+     * @param dep The number of the dependency
+     * @throws IOException If fails
+     */
+    private void deploy(final int dep) throws IOException {
+        final String name = String.format("dep%d", dep);
+        final Path place = this.local.resolve(String.format("synthetic/%s/0.0.0", name));
+        final Path jar = place.resolve(String.format("%s-0.0.0.jar", name));
+        if (!jar.toFile().exists()) {
+            Files.createDirectories(place);
+            Files.write(
+                place.resolve(String.format("%s-0.0.0.pom", name)),
+                String.join(
+                    "\n",
+                    "<project>",
+                    "  <modelVersion>4.0.0</modelVersion>",
+                    "  <groupId>synthetic</groupId>",
+                    String.format("  <artifactId>%s</artifactId>", name),
+                    "  <version>0.0.0</version>",
+                    "</project>",
+                    ""
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+            final Path temp = Files.createTempFile(place, name, ".jar");
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(temp))) {
+                zip.putNextEntry(new ZipEntry(String.format("synthetic/%s.txt", name)));
+                zip.write(name.getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            Files.move(temp, jar, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Path of the Java class.
+     * @param idx The number of the class
+     * @return Path, relative to the home
+     */
+    private String java(final int idx) {
+        return String.format(
+            "%ssrc/main/java/%s/C%d.java",
+            this.prefix(idx), this.pkg(idx).replace('.', '/'), idx
+        );
+    }
+
+    /**
+     * Source code of the Java class.
+     * @param idx The number of the class
+     * @return Java code
+     */
+    private String klass(final int idx) {
+        final StringBuilder java = new StringBuilder(this.methods * 64 + 256)
+            .append("package ").append(this.pkg(idx)).append(";\n\n")
+            .append("/**\n * Synthetic class number ").append(idx).append(".\n */\n")
+            .append("public final class C").append(idx).append(" {\n");
+        for (int mtd = 0; mtd < this.methods; ++mtd) {
+            java.append("    public int m").append(mtd).append("(final int x) {\n")
+                .append("        return x + ").append(mtd).append(";\n    }\n\n");
+        }
+        java.append("    public int refs() {\n        return 0");
+        final int mod = idx % this.modules;
+        final int total = (this.classes - mod + this.modules - 1) / this.modules;
+        final int pos = idx / this.modules;
+        for (int ref = 1; ref <= this.refs && ref < total; ++ref) {
+            java.append("\n            + new C")
+                .append((pos + ref) % total * this.modules + mod)
+                .append("().m0(").append(ref).append(')');
+        }
+        return java.append(";\n    }\n}\n").toString();
+    }
+
+    /**
+     * Path of the resource.
+     * @param idx The number of the resource
+     * @return Path, relative to the home
+     */
+    private String resource(final int idx) {
+        return String.format("%ssrc/main/resources/synthetic/r%d.txt", this.prefix(idx), idx);
+    }
+
+    /**
+     * Content of the resource.
+     * @param idx The number of the resource
+     * @return The bytes
+     */
+    private byte[] text(final int idx) {
+        final byte[] line = String.format("synthetic resource number %d\n", idx)
+            .getBytes(StandardCharsets.UTF_8);
+        final byte[] bytes = new byte[this.size];
+        for (int pos = 0; pos < bytes.length; ++pos) {
+            bytes[pos] = line[pos % line.length];
+        }
+        return bytes;
+    }
+
+    /**
+     * Java package of the class.
+     * @param idx The number of the class
+     * @return The package
+     */
+    private String pkg(final int idx) {
+        String pkg = "synthetic";
+        if (this.modules > 1) {
+            pkg = String.format("synthetic.m%d", idx % this.modules);
+        }
+        return pkg;
+    }
+
+    /**
+     * Directory of the module of the file, with a trailing slash.
+     * @param idx The number of the file
+     * @return The directory, or empty string if there are no modules
+     */
+    private String prefix(final int idx) {
+        String prefix = "";
+        if (this.modules > 1) {
+            prefix = String.format("m%d/", idx % this.modules);
+        }
+        return prefix;
+    }
+
+    /**
+     * The {@code pom.xml} of the module.
+     * @param parent The XML of the {@code <parent>} element
+     * @param mod The number of the module
+     * @return XML
+     */
+    private static String module(final String parent, final int mod) {
+        return String.join(
+            "\n",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+            "<project>",
+            "  <modelVersion>4.0.0</modelVersion>",
+            parent,
+            String.format("  <artifactId>m%d</artifactId>", mod),
+            String.format("  <name>m%d</name>", mod),
+            "</project>",
+            ""
+        );
+    }
+
+    /**
+     * Write the batch of files, if it's full.
+     * @param files Files of the reactor
+     * @param batch The batch
+     * @return The same batch, or a new empty one, if it was written
+     * @throws IOException If fails
+     */
+    private static Map<String, byte[]> flush(final Requisites files,
+        final Map<String, byte[]> batch) throws IOException {
+        Map<String, byte[]> next = batch;
+        if (batch.size() >= Synthetic.BATCH) {
+            files.seed(batch);
+            next = new HashMap<>(Synthetic.BATCH);
+        }
+        return next;
+    }
+
+    /**
+     * Make sure the number is not negative.
+     * @param num The number
+     * @param what What is it
+     * @return The number
+     */
+    private static int positive(final int num, final String what) {
+        if (num < 0) {
+            throw new IllegalArgumentException(
+                String.format("The number of %s can't be negative: %d", what, num)
+            );
+        }
+        return num;
+    }
+}
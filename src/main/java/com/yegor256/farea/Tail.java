@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader of a log file, which is still being written by Maven.
+ *
+ * <p>Every call to {@link #poll()} reads only the bytes that were
+ * appended to the file since the previous call. Every complete line
+ * is sent to the debug log and to the {@link Ring} buffer.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Tail {
+
+    /**
+     * Size of the reading buffer.
+     */
+    private static final int CHUNK = 64 * 1024;
+
+    /**
+     * Max size of a line kept in memory, the same as the default
+     * size of the {@link Ring}, in bytes.
+     */
+    private static final int LINE = 64 * 1024;
+
+    /**
+     * The log file.
+     */
+    private final Path log;
+
+    /**
+     * The buffer of recent lines.
+     */
+    private final Ring ring;
+
+    /**
+     * The incomplete line seen so far.
+     */
+    private final ByteArrayOutputStream partial;
+
+    /**
+     * Bytes of the incomplete line, which didn't fit into the buffer.
+     */
+    private long skipped;
+
+    /**
+     * Position in the file we've read so far.
+     */
+    private long pos;
+
+    /**
+     * Ctor.
+     * @param file The log file
+     * @param buf The buffer to send lines to
+     */
+    Tail(final Path file, final Ring buf) {
+        this.log = file;
+        this.ring = buf;
+        this.partial = new ByteArrayOutputStream();
+    }
+
+    /**
+     * Read all new lines.
+     * @return Position in the file
+     * @throws IOException If fails
+     */
+    synchronized long poll() throws IOException {
+        if (this.log.toFile().exists()) {
+            try (FileChannel channel = FileChannel.open(this.log, StandardOpenOption.READ)) {
+                if (channel.size() < this.pos) {
+                    this.pos = 0L;
+                    this.partial.reset();
+                    this.skipped = 0L;
+                }
+                final ByteBuffer buf = ByteBuffer.allocate(Tail.CHUNK);
+                while (true) {
+                    buf.clear();
+                    final int read = channel.read(buf, this.pos);
+                    if (read <= 0) {
+                        break;
+                    }
+                    this.pos += read;
+                    this.consume(buf.array(), read);
+                }
+            }
+        }
+        return this.pos;
+    }
+
+    /**
+     * Take the last line, even if it is not terminated by a line break.
+     */
+    synchronized void flush() {
+        if (this.partial.size() > 0 || this.skipped > 0L) {
+            this.emit();
+        }
+    }
+
+    private void consume(final byte[] bytes, final int len) {
+        int start = 0;
+        for (int idx = 0; idx < len; ++idx) {
+            if (bytes[idx] == '\n') {
+                this.append(bytes, start, idx - start);
+                this.emit();
+                start = idx + 1;
+            }
+        }
+        this.append(bytes, start, len - start);
+    }
+
+    /**
+     * Append bytes to the incomplete line, skipping what doesn't fit,
+     * for example an endless progress bar without line breaks.
+     * @param bytes The bytes
+     * @param start Where to start
+     * @param len How many bytes
+     */
+    private void append(final byte[] bytes, final int start, final int len) {
+        final int fits = Math.min(len, Tail.LINE - this.partial.size());
+        this.partial.write(bytes, start, fits);
+        this.skipped += len - fits;
+    }
+
+    private void emit() {
+        final int size = this.partial.size();
+        final byte[] bytes = this.partial.toByteArray();
+        int len = bytes.length;
+        if (this.skipped > 0L) {
+            len = Tail.boundary(bytes);
+            this.skipped += bytes.length - len;
+        }
+        final String raw = new String(bytes, 0, len, StandardCharsets.UTF_8);
+        String line;
+        if (raw.endsWith("\r")) {
+            line = raw.substring(0, raw.length() - 1);
+        } else {
+            line = raw;
+        }
+        if (this.skipped > 0L) {
+            line = String.format("%s... (%d more bytes skipped)", line, this.skipped);
+        }
+        this.partial.reset();
+        this.skipped = 0L;
+        Logger.debug(Farea.class, "%s", line);
+        this.ring.add(line, size);
+    }
+
+    /**
+     * Length of the bytes without the last UTF-8 character, if it is
+     * incomplete, because the line was cut in the middle of it.
+     * @param bytes The bytes
+     * @return How many bytes make complete characters
+     */
+    private static int boundary(final byte[] bytes) {
+        int len = bytes.length;
+        for (int idx = bytes.length - 1; idx >= Math.max(0, bytes.length - 4); --idx) {
+            final int bte = bytes[idx] & 0xff;
+            if ((bte & 0xc0) != 0x80) {
+                int width = 1;
+                if (bte >= 0xf0) {
+                    width = 4;
+                } else if (bte >= 0xe0) {
+                    width = 3;
+                } else if (bte >= 0xc0) {
+                    width = 2;
+                }
+                if (idx + width > bytes.length) {
+                    len = idx;
+                }
+                break;
+            }
+        }
+        return len;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.io.StringReader;
+import java.time.Duration;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * Timing of a single build, as recorded in {@link Timings}.
+ *
+ * <p>It is saved as a single line of JSON, for example:</p>
+ *
+ * <pre>
+ * {"test":"FooTest#works","goals":"test","wall":4200,"code":0,
+ *  "cpu":9100,"memory":524288000,"threads":42,"read":1024,"written":2048}
+ * </pre>
+ *
+ * <p>The class is immutable and thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Timing {
+
+    /**
+     * The test that executed the build.
+     */
+    private final String test;
+
+    /**
+     * Maven goals and options.
+     */
+    private final String goals;
+
+    /**
+     * Wall-clock time.
+     */
+    private final Duration wall;
+
+    /**
+     * Exit code.
+     */
+    private final int code;
+
+    /**
+     * Resources consumed.
+     */
+    private final Usage usage;
+
+    /**
+     * Ctor.
+     * @param json The line of JSON
+     * @throws IllegalArgumentException If it's not a JSON object
+     */
+    Timing(final String json) {
+        this(Timing.parse(json));
+    }
+
+    /**
+     * Ctor.
+     * @param tst The test that executed the build
+     * @param args Maven goals and options
+     * @param result The result of the build
+     */
+    Timing(final String tst, final String args, final BuildResult result) {
+        this(tst, args, result.wall(), result.code(), result.usage());
+    }
+
+    /**
+     * Ctor.
+     * @param tst The test that executed the build
+     * @param args Maven goals and options
+     * @param time Wall-clock time
+     * @param exit Exit code
+     * @param use Resources consumed
+     */
+    Timing(final String tst, final String args, final Duration time,
+        final int exit, final Usage use) {
+        this.test = tst;
+        this.goals = args;
+        this.wall = time;
+        this.code = exit;
+        this.usage = use;
+    }
+
+    /**
+     * Ctor.
+     * @param json Fields
+     */
+    private Timing(final JsonObject json) {
+        this(
+            json.getString("test", ""),
+            json.getString("goals", ""),
+            Duration.ofMillis(Timing.number(json, "wall")),
+            (int) Timing.number(json, "code"),
+            new DtUsage(
+                Duration.ofMillis(Timing.number(json, "cpu")),
+                Timing.number(json, "memory"),
+                (int) Timing.number(json, "threads"),
+                Timing.number(json, "read"),
+                Timing.number(json, "written")
+            )
+        );
+    }
+
+    /**
+     * Unique key of the scenario: the test and the goals, if any.
+     * @return The key
+     */
+    String key() {
+        final String key;
+        if (this.goals.isEmpty()) {
+            key = this.test;
+        } else {
+            key = String.format("%s %s", this.test, this.goals);
+        }
+        return key;
+    }
+
+    /**
+     * Wall-clock time.
+     * @return The time
+     */
+    Duration wall() {
+        return this.wall;
+    }
+
+    /**
+     * Save it as a line of JSON.
+     * @return JSON, without line breaks
+     */
+    String json() {
+        return Json.createObjectBuilder()
+            .add("test", this.test)
+            .add("goals", this.goals)
+            .add("wall", this.wall.toMillis())
+            .add("code", this.code)
+            .add("cpu", this.usage.cpu().toMillis())
+            .add("memory", this.usage.memory())
+            .add("threads", this.usage.threads())
+            .add("read", this.usage.read())
+            .add("written", this.usage.written())
+            .build()
+            .toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.key();
+    }
+
+    /**
+     * Parse a line of JSON.
+     * @param line The line
+     * @return The object
+     */
+    private static JsonObject parse(final String line) {
+        try (JsonReader reader = Json.createReader(new StringReader(line))) {
+            return reader.readObject();
+        } catch (final JsonException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't parse timing from \"%s\"", line),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Number in the object, or zero if it's absent or not a number.
+     * @param json The object
+     * @param key The key
+     * @return The number
+     */
+    private static long number(final JsonObject json, final String key) {
+        final JsonValue value = json.get(key);
+        long num = 0L;
+        if (value instanceof JsonNumber) {
+            num = ((JsonNumber) value).longValue();
+        }
+        return num;
+    }
+}
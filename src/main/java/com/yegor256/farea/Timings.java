@@ -0,0 +1,337 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Append-only database of build timings, in a file.
+ *
+ * <p>Builds executed by {@link Farea} are recorded only if the
+ * {@code farea.timings} system property is set, for example, to
+ * {@code target/farea/timings.jsonl}; there is no default, and without
+ * the property nothing is written anywhere. Every build is appended
+ * to the file as a line of JSON, see {@link Timing}. Lines that can't be
+ * parsed, for example, cut by a crashed JVM, are skipped.</p>
+ *
+ * <p>When the JVM exits, two reports are generated next to the file,
+ * {@code report.json} and {@code report.html}. They list all builds
+ * of this JVM, the slowest first. A build is marked as a regression,
+ * if it's more than 50% and more than a second slower than the same
+ * scenario (the same test and the same goals) in the previous JVM.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Timings {
+
+    /**
+     * The database of this JVM.
+     */
+    static final Timings JVM = new Timings(
+        Paths.get(System.getProperty("farea.timings", "")),
+        true,
+        System.getProperty("farea.timings") != null
+    );
+
+    /**
+     * Locks of files, by their absolute paths.
+     *
+     * <p>A {@link FileLock} is held by the whole JVM, that's why two threads
+     * of the same JVM can't lock the same file at the same time: the second
+     * one gets {@link java.nio.channels.OverlappingFileLockException}. Threads
+     * are serialized here, while the {@link FileLock} protects the file from
+     * other JVMs, like forks of Surefire.</p>
+     */
+    private static final Map<Path, Lock> LOCKS = new ConcurrentHashMap<>(0);
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Durations of scenarios, as they were before this JVM, by keys.
+     */
+    private final Map<String, Duration> before;
+
+    /**
+     * Builds of this JVM.
+     */
+    private final Collection<Timing> timings;
+
+    /**
+     * Previous durations already loaded, and the hook registered?
+     */
+    private final AtomicBoolean started;
+
+    /**
+     * Make reports when the JVM exits?
+     */
+    private final boolean hook;
+
+    /**
+     * Record builds at all?
+     */
+    private final boolean enabled;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    Timings(final Path path) {
+        this(path, false, true);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param report Make reports when the JVM exits?
+     * @param active Record builds at all?
+     */
+    Timings(final Path path, final boolean report, final boolean active) {
+        this.file = path;
+        this.hook = report;
+        this.enabled = active;
+        this.before = new ConcurrentHashMap<>(0);
+        this.timings = new ConcurrentLinkedQueue<>();
+        this.started = new AtomicBoolean(false);
+    }
+
+    /**
+     * Append a build to the file, if the timings are enabled.
+     * @param args Maven goals and options
+     * @param result The result of the build
+     * @throws IOException If fails
+     */
+    void add(final String args, final BuildResult result) throws IOException {
+        if (this.enabled) {
+            this.add(new Timing(Timings.caller(), args, result));
+        }
+    }
+
+    /**
+     * Append a build to the file.
+     * @param timing The timing of the build
+     * @throws IOException If fails
+     */
+    void add(final Timing timing) throws IOException {
+        if (this.started.compareAndSet(false, true)) {
+            this.before.putAll(this.durations());
+            if (this.hook) {
+                Runtime.getRuntime().addShutdownHook(
+                    new Thread(this::report, "farea-timings")
+                );
+            }
+        }
+        this.timings.add(timing);
+        if (this.file.toAbsolutePath().getParent().toFile().mkdirs()) {
+            Logger.debug(this, "Directory created for %[file]s", this.file);
+        }
+        final Lock mutex = Timings.LOCKS.computeIfAbsent(
+            this.file.toAbsolutePath().normalize(), path -> new ReentrantLock()
+        );
+        mutex.lock();
+        try (FileChannel channel = FileChannel.open(
+            this.file, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND
+        ); FileLock lock = channel.lock()) {
+            assert lock.isValid();
+            channel.write(
+                ByteBuffer.wrap(
+                    String.format("%s%n", timing.json()).getBytes(StandardCharsets.UTF_8)
+                )
+            );
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    /**
+     * The latest durations of all scenarios ever recorded in the file.
+     * @return Durations by keys
+     * @throws IOException If fails
+     */
+    Map<String, Duration> durations() throws IOException {
+        final Map<String, Duration> map = new ConcurrentHashMap<>(0);
+        if (this.file.toFile().exists()) {
+            try (Stream<String> lines = Files.lines(this.file, StandardCharsets.UTF_8)) {
+                lines.filter(line -> !line.isEmpty()).forEach(
+                    line -> {
+                        try {
+                            final Timing timing = new Timing(line);
+                            map.put(timing.key(), timing.wall());
+                        } catch (final IllegalArgumentException ex) {
+                            Logger.debug(
+                                this, "Broken line skipped in %[file]s: %s", this.file, line
+                            );
+                        }
+                    }
+                );
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Builds of this JVM, which are much slower than before.
+     * @return Regressions
+     */
+    Collection<Timing> regressions() {
+        return this.timings.stream()
+            .filter(this::regressed)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Make JSON and HTML reports of this JVM.
+     * @param json The JSON file to save to
+     * @param html The HTML file to save to
+     * @throws IOException If fails
+     */
+    void report(final Path json, final Path html) throws IOException {
+        final List<Timing> all = new ArrayList<>(this.timings);
+        all.sort(Comparator.comparing(Timing::wall).reversed());
+        final Collection<String> items = new ArrayList<>(all.size());
+        final StringBuilder rows = new StringBuilder(0);
+        for (final Timing timing : all) {
+            final Duration prev = this.before.get(timing.key());
+            final String ms;
+            if (prev == null) {
+                ms = "null";
+            } else {
+                ms = Long.toString(prev.toMillis());
+            }
+            items.add(
+                String.format(
+                    "{\"timing\":%s,\"previous\":%s,\"regression\":%b}",
+                    timing.json(), ms, this.regressed(timing)
+                )
+            );
+            rows.append("<tr");
+            if (this.regressed(timing)) {
+                rows.append(" class='regression'");
+            }
+            rows.append(
+                String.format(
+                    "><td>%s</td><td>%d</td><td>%s</td></tr>%n",
+                    Timings.html(timing.key()), timing.wall().toMillis(), ms
+                )
+            );
+        }
+        Files.write(
+            json,
+            String.format("[%n%s%n]%n", String.join(String.format(",%n"), items))
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        Files.write(
+            html,
+            String.join(
+                System.lineSeparator(),
+                "<!DOCTYPE html>",
+                "<html><head><title>Farea timings</title>",
+                "<style>.regression { background: #fdd; }</style></head><body>",
+                "<table><thead><tr>",
+                "<th>Scenario</th><th>Wall, ms</th><th>Previous, ms</th>",
+                "</tr></thead><tbody>",
+                rows.toString(),
+                "</tbody></table></body></html>"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private void report() {
+        final Path json = this.file.resolveSibling("report.json");
+        try {
+            this.report(json, this.file.resolveSibling("report.html"));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        Logger.info(
+            this, "Timings of %d build(s) reported to %[file]s",
+            this.timings.size(), json
+        );
+        for (final Timing timing : this.regressions()) {
+            Logger.warn(
+                this, "The build got slower, from %[ms]s to %[ms]s: %s",
+                this.before.get(timing.key()).toMillis(), timing.wall().toMillis(), timing
+            );
+        }
+    }
+
+    private boolean regressed(final Timing timing) {
+        final Duration prev = this.before.get(timing.key());
+        return prev != null
+            && timing.wall().toMillis() * 2L > prev.toMillis() * 3L
+            && timing.wall().minus(prev).compareTo(Duration.ofSeconds(1L)) > 0;
+    }
+
+    /**
+     * Find the test that executed the build.
+     *
+     * <p>It is the first frame in the stack, which belongs to a class
+     * loaded from somewhere else than the classes of Farea, usually
+     * the {@code target/test-classes} directory.</p>
+     *
+     * @return Class and method, like {@code "FooTest#worksFine"}
+     */
+    private static String caller() {
+        final String mine = Timings.location(Farea.class);
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(
+            frames -> frames
+                .filter(frame -> !frame.getDeclaringClass().getName().startsWith("java."))
+                .filter(frame -> !Timings.location(frame.getDeclaringClass()).isEmpty())
+                .filter(frame -> !mine.equals(Timings.location(frame.getDeclaringClass())))
+                .findFirst()
+                .map(
+                    frame -> String.format(
+                        "%s#%s",
+                        frame.getDeclaringClass().getName().replaceAll("^.*\\.", ""),
+                        frame.getMethodName().replaceAll("^lambda\\$(.+)\\$[0-9]+$", "$1")
+                    )
+                )
+                .orElse("unknown")
+        );
+    }
+
+    private static String location(final Class<?> cls) {
+        final CodeSource src = cls.getProtectionDomain().getCodeSource();
+        final String loc;
+        if (src == null || src.getLocation() == null) {
+            loc = "";
+        } else {
+            loc = src.getLocation().toString();
+        }
+        return loc;
+    }
+
+    private static String html(final String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Trash, where homes of reactors are deleted in background.
+ *
+ * <p>The home is renamed aside first, into a directory of the trash
+ * (inside {@code java.io.tmpdir}, by default), which is an atomic and
+ * instant operation, if both are on the same file system. Nothing is
+ * left next to the home, so whoever deletes its parent, for example
+ * JUnit cleaning up a temporary directory, doesn't race with the trash.
+ * Then, the caller may continue, while homes are deleted in a pool
+ * of background threads, one walk of the tree per home. If the home
+ * can't be renamed, it is deleted right away, and files that can't
+ * be deleted are reported by an exception. Files that disappear
+ * before the trash gets to them are not failures.</p>
+ *
+ * <p>Files that can't be deleted in background are reported to the log,
+ * as warnings, and then by {@link #drain()}, which forgets them. Only
+ * a few of them are kept, as examples. When the JVM exits, all pending
+ * deletions are drained.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.16.0
+ */
+final class Trash {
+
+    /**
+     * The trash of this JVM.
+     */
+    static final Trash JVM = new Trash(
+        Paths.get(System.getProperty("java.io.tmpdir")), true
+    );
+
+    /**
+     * How many errors to keep, as examples.
+     */
+    private static final int SAMPLES = 16;
+
+    /**
+     * The directory, where homes are renamed to.
+     */
+    private final Path base;
+
+    /**
+     * Pool of threads, which delete files.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Deletions in progress, by directories renamed aside.
+     */
+    private final ConcurrentMap<Path, Future<Long>> pending;
+
+    /**
+     * Examples of errors of deletions in background.
+     */
+    private final Collection<String> errors;
+
+    /**
+     * How many files were not deleted in background.
+     */
+    private final AtomicLong failed;
+
+    /**
+     * How many files and directories were deleted in background.
+     */
+    private final AtomicLong removed;
+
+    /**
+     * The hook is registered?
+     */
+    private final AtomicBoolean started;
+
+    /**
+     * Drain pending deletions when the JVM exits?
+     */
+    private final boolean hook;
+
+    /**
+     * Ctor.
+     */
+    Trash() {
+        this(Paths.get(System.getProperty("java.io.tmpdir")), false);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory, where homes are renamed to
+     * @param drain Drain pending deletions when the JVM exits?
+     */
+    Trash(final Path dir, final boolean drain) {
+        this.base = dir;
+        this.hook = drain;
+        this.pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        this.pending = new ConcurrentHashMap<>(0);
+        this.errors = new ConcurrentLinkedQueue<>();
+        this.failed = new AtomicLong();
+        this.removed = new AtomicLong();
+        this.started = new AtomicBoolean(false);
+    }
+
+    /**
+     * Delete the directory, with all its files.
+     *
+     * <p>The directory disappears when this method returns, but its files
+     * may still be deleted in background.</p>
+     *
+     * @param home The directory
+     * @throws IOException If fails, or some files were not deleted right away
+     */
+    void dispose(final Path home) throws IOException {
+        if (home.toFile().exists() && !this.aside(home)) {
+            this.erase(home);
+        }
+    }
+
+    /**
+     * Delete the directory, with all its files, right away.
+     * @param home The directory
+     * @return How many files and directories deleted
+     * @throws IOException If fails, or some files were not deleted
+     */
+    long erase(final Path home) throws IOException {
+        final Collection<String> lost = new ConcurrentLinkedQueue<>();
+        long deleted = 0L;
+        if (home.toFile().exists()) {
+            deleted = this.delete(home, home, lost);
+        }
+        if (!lost.isEmpty()) {
+            throw new IOException(
+                String.format(
+                    "%d file(s) not deleted from %s, for example: %s",
+                    lost.size(), home, lost.iterator().next()
+                )
+            );
+        }
+        return deleted;
+    }
+
+    /**
+     * Wait until all pending deletions are finished.
+     * @return How many files and directories deleted
+     * @throws IOException If some files were not deleted
+     */
+    long drain() throws IOException {
+        for (final Map.Entry<Path, Future<Long>> ent : this.pending.entrySet()) {
+            Trash.await(ent.getValue());
+            this.pending.remove(ent.getKey());
+        }
+        final long total = this.removed.getAndSet(0L);
+        final long lost = this.failed.getAndSet(0L);
+        if (lost > 0L) {
+            final String example = this.errors.iterator().next();
+            this.errors.clear();
+            throw new IOException(
+                String.format("%d file(s) not deleted, for example: %s", lost, example)
+            );
+        }
+        return total;
+    }
+
+    /**
+     * Rename the directory aside and start deleting it in background.
+     * @param home The directory
+     * @return TRUE if renamed
+     * @throws IOException If fails
+     */
+    private boolean aside(final Path home) throws IOException {
+        Files.createDirectories(this.base);
+        final Path aside = Files.createTempDirectory(this.base, "farea-trash-");
+        boolean moved = false;
+        try {
+            Files.move(home, aside.resolve("home"), StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+        } catch (final IOException ex) {
+            Logger.debug(
+                this, "Can't rename %[file]s aside: %s", home, ex.getMessage()
+            );
+            Files.delete(aside);
+        }
+        if (moved) {
+            if (this.hook && this.started.compareAndSet(false, true)) {
+                Runtime.getRuntime().addShutdownHook(
+                    new Thread(this::drainQuietly, "farea-trash")
+                );
+            }
+            this.pending.values().removeIf(Future::isDone);
+            this.pending.put(aside, this.pool.submit(() -> this.background(home, aside)));
+            Logger.debug(
+                this, "%[file]s renamed to %[file]s, to be deleted in background",
+                home, aside
+            );
+        }
+        return moved;
+    }
+
+    /**
+     * Drain, reporting errors to the log.
+     */
+    private void drainQuietly() {
+        try {
+            Logger.debug(this, "%d file(s) deleted in background", this.drain());
+        } catch (final IOException ex) {
+            Logger.warn(this, "Failed to delete some files: %s", ex.getMessage());
+        }
+    }
+
+    /**
+     * Delete all files in background, remembering failures.
+     * @param home The original home, for the JFR event
+     * @param tree The directory to delete
+     * @return How many files and directories deleted
+     */
+    private long background(final Path home, final Path tree) {
+        final Collection<String> lost = new ConcurrentLinkedQueue<>();
+        long deleted = 0L;
+        try {
+            deleted = this.delete(home, tree, lost);
+        } catch (final IOException ex) {
+            Logger.warn(this, "Can't delete %[file]s: %s", tree, ex.getMessage());
+            lost.add(String.format("%s (%s)", tree, ex.getMessage()));
+        }
+        this.removed.addAndGet(deleted);
+        for (final String error : lost) {
+            if (this.errors.size() >= Trash.SAMPLES) {
+                break;
+            }
+            this.errors.add(error);
+        }
+        this.failed.addAndGet(lost.size());
+        return deleted;
+    }
+
+    /**
+     * Delete all files, walking the tree once, directories after their files.
+     * @param home The original home, for the JFR event
+     * @param tree The directory to delete
+     * @param lost Where to report files, which were not deleted
+     * @return How many files and directories deleted
+     * @throws IOException If fails
+     */
+    private long delete(final Path home, final Path tree, final Collection<String> lost)
+        throws IOException {
+        final CleanEvent event = new CleanEvent(home);
+        event.begin();
+        final AtomicLong deleted = new AtomicLong();
+        Files.walkFileTree(
+            tree,
+            new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file,
+                    final BasicFileAttributes attrs) {
+                    if (Trash.this.remove(file, lost)) {
+                        deleted.incrementAndGet();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file,
+                    final IOException exc) {
+                    if (!(exc instanceof NoSuchFileException)) {
+                        Trash.this.lose(file, exc, lost);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(final Path dir,
+                    final IOException exc) {
+                    if (exc == null || exc instanceof NoSuchFileException) {
+                        if (Trash.this.remove(dir, lost)) {
+                            deleted.incrementAndGet();
+                        }
+                    } else {
+                        Trash.this.lose(dir, exc, lost);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            }
+        );
+        event.done(deleted.get());
+        Logger.debug(this, "%d file(s) deleted from %[file]s", deleted.get(), tree);
+        return deleted.get();
+    }
+
+    /**
+     * Delete one file or empty directory, reporting a failure.
+     *
+     * <p>If the file is already absent, it's not a failure.</p>
+     *
+     * @param path The path
+     * @param lost Where to report it, if not deleted
+     * @return TRUE if deleted
+     */
+    private boolean remove(final Path path, final Collection<String> lost) {
+        boolean done;
+        try {
+            done = Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            this.lose(path, ex, lost);
+            done = false;
+        }
+        return done;
+    }
+
+    /**
+     * Report a file, which was not deleted.
+     * @param path The path
+     * @param error The reason
+     * @param lost Where to report it
+     */
+    private void lose(final Path path, final IOException error,
+        final Collection<String> lost) {
+        lost.add(String.format("%s (%s)", path, error.getMessage()));
+        Logger.warn(this, "Can't delete %[file]s: %s", path, error.getMessage());
+    }
+
+    /**
+     * Wait for the deletion.
+     * @param future The deletion
+     * @return How many files and directories deleted
+     * @throws IOException If fails
+     */
+    private static long await(final Future<Long> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Tree of files, which may be cloned to another place without copying
+ * their bytes.
+ *
+ * <p>Every file is hard-linked into the new place, which takes
+ * O(number of files) time, no matter how big they are. If hard links
+ * are not supported (for example, the new place is on another file
+ * system), the file is copied.</p>
+ *
+ * <p>Since hard-linked files share their content, a file modified
+ * in place in one tree will look modified in another one.
+ * Maven and Farea usually replace files, instead of modifying them,
+ * which breaks the link. Where the file system supports reflinks
+ * (Btrfs, XFS, APFS, etc.), {@link #reflinkTo(Path)} makes real
+ * copy-on-write clones, which don't have this problem.</p>
+ *
+ * @since 0.16.0
+ */
+final class Tree {
+
+    /**
+     * The root directory.
+     */
+    private final Path root;
+
+    /**
+     * Names of files and directories in the root to skip.
+     */
+    private final Collection<String> skip;
+
+    /**
+     * Ctor.
+     * @param dir The root directory
+     * @param names Names of files and directories in the root to skip
+     */
+    Tree(final Path dir, final String... names) {
+        this.root = dir;
+        this.skip = new HashSet<>(Arrays.asList(names));
+    }
+
+    /**
+     * Clone all files into another directory with hard links,
+     * replacing existing ones.
+     *
+     * <p>If a file can't be hard-linked, it is copied, together with
+     * its attributes.</p>
+     *
+     * @param target The directory to clone into
+     * @return The volume cloned
+     * @throws IOException If fails
+     */
+    Volume cloneTo(final Path target) throws IOException {
+        return this.walk(
+            target, "hard-linked",
+            (dest, file) -> Tree.link(dest, file) || Tree.copy(dest, file, true)
+        );
+    }
+
+    /**
+     * Copy all files into another directory, byte by byte, replacing
+     * existing ones.
+     *
+     * <p>Copies are new files, their attributes, like modification
+     * time, are not copied.</p>
+     *
+     * @param target The directory to copy into
+     * @return The volume copied
+     * @throws IOException If fails
+     */
+    Volume copyTo(final Path target) throws IOException {
+        return this.walk(target, "copied", (dest, file) -> Tree.copy(dest, file, false));
+    }
+
+    /**
+     * Copy files into another directory, byte by byte, leaving
+     * files with identical content untouched.
+     *
+     * <p>This keeps modification times of files that are not changed,
+     * which is what incremental builds of Maven plugins look at.</p>
+     *
+     * @param target The directory to copy into
+     * @return The volume copied or left untouched
+     * @throws IOException If fails
+     */
+    Volume updateTo(final Path target) throws IOException {
+        return this.walk(
+            target, "updated",
+            (dest, file) -> {
+                final boolean same;
+                try (InputStream input = Files.newInputStream(file)) {
+                    same = Tree.identical(dest, Files.size(file), input);
+                }
+                return same || Tree.copy(dest, file, false);
+            }
+        );
+    }
+
+    /**
+     * Copy all files into another directory, byte by byte, together
+     * with their attributes, replacing existing ones.
+     * @param target The directory to copy into
+     * @return The volume copied
+     * @throws IOException If fails
+     */
+    Volume mirrorTo(final Path target) throws IOException {
+        return this.walk(target, "mirrored", (dest, file) -> Tree.copy(dest, file, true));
+    }
+
+    /**
+     * Make symbolic links to all files in another directory, replacing
+     * existing ones.
+     * @param target The directory to make links in
+     * @return The volume linked
+     * @throws IOException If fails
+     */
+    Volume symlinkTo(final Path target) throws IOException {
+        return this.walk(
+            target, "symlinked",
+            (dest, file) -> {
+                Files.deleteIfExists(dest);
+                return Files.createSymbolicLink(dest, file.toAbsolutePath()) != null;
+            }
+        );
+    }
+
+    /**
+     * Clone all files into another directory with reflinks, if the file
+     * system supports them, or with hard links otherwise.
+     *
+     * <p>Reflinks are made by {@code cp --reflink=always}, which is
+     * available in GNU coreutils only. Files to skip are not
+     * respected by it.</p>
+     *
+     * <p>Without reflinks, files inside {@code target/} directories of
+     * modules are copied, not hard-linked, since Maven plugins may write
+     * them in place, which would change the files in this tree too.</p>
+     *
+     * @param target The directory to clone into
+     * @return The volume cloned
+     * @throws IOException If fails
+     */
+    Volume reflinkTo(final Path target) throws IOException {
+        final Volume volume;
+        if (this.skip.isEmpty() && Files.isDirectory(this.root) && this.reflinked(target)) {
+            final AtomicLong total = new AtomicLong();
+            final AtomicLong bytes = new AtomicLong();
+            try (Stream<Path> files = Files.walk(target)) {
+                files.filter(Files::isRegularFile).forEach(
+                    file -> {
+                        total.incrementAndGet();
+                        bytes.addAndGet(file.toFile().length());
+                    }
+                );
+            }
+            volume = new Volume(total.get(), bytes.get());
+            Logger.debug(
+                this, "%s reflinked from %[file]s to %[file]s",
+                volume, this.root, target
+            );
+        } else {
+            volume = this.walk(
+                target, "hard-linked",
+                (dest, file) -> !this.output(file) && Tree.link(dest, file)
+                    || Tree.copy(dest, file, true)
+            );
+        }
+        return volume;
+    }
+
+    /**
+     * Try to clone with {@code cp --reflink=always}.
+     * @param target The directory to clone into
+     * @return TRUE if cloned
+     * @throws IOException If fails
+     */
+    private boolean reflinked(final Path target) throws IOException {
+        Files.createDirectories(target);
+        boolean done;
+        try {
+            final Process proc = new ProcessBuilder(
+                "cp", "-R", "-p", "--reflink=always", "--remove-destination",
+                String.format("%s/.", this.root.toAbsolutePath()),
+                target.toAbsolutePath().toString()
+            ).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+            done = proc.waitFor() == 0;
+        } catch (final IOException ex) {
+            Logger.debug(this, "Can't reflink: %s", ex.getMessage());
+            done = false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        return done;
+    }
+
+    /**
+     * Walk the tree and put all files into another directory.
+     *
+     * <p>Directories are created while walking, while files are put
+     * in parallel, after the walk is finished.</p>
+     *
+     * @param target The directory
+     * @param verb What is done to files, for the log
+     * @param way How to put a file
+     * @return The volume
+     * @throws IOException If fails
+     */
+    private Volume walk(final Path target, final String verb, final Tree.Way way)
+        throws IOException {
+        final Collection<Path> files = new ArrayList<>(0);
+        final AtomicLong bytes = new AtomicLong();
+        if (Files.isDirectory(this.root)) {
+            Files.createDirectories(target);
+        } else {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+        }
+        Files.walkFileTree(
+            this.root,
+            new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir,
+                    final BasicFileAttributes attrs) throws IOException {
+                    final FileVisitResult next;
+                    if (Tree.this.skipped(dir)) {
+                        next = FileVisitResult.SKIP_SUBTREE;
+                    } else {
+                        Files.createDirectories(target.resolve(Tree.this.root.relativize(dir)));
+                        next = FileVisitResult.CONTINUE;
+                    }
+                    return next;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file,
+                    final BasicFileAttributes attrs) {
+                    if (!Tree.this.skipped(file)) {
+                        files.add(file);
+                        bytes.addAndGet(attrs.size());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            }
+        );
+        final long cheap;
+        try {
+            cheap = files.parallelStream().filter(
+                file -> {
+                    final Path dest = target.resolve(this.root.relativize(file));
+                    try {
+                        return way.put(dest, file);
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            ).count();
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        final Volume volume = new Volume(files.size(), bytes.get());
+        Logger.debug(
+            this, "%s %s from %[file]s to %[file]s (%d copied)",
+            volume, verb, this.root, target, files.size() - cheap
+        );
+        return volume;
+    }
+
+    /**
+     * This file or directory must be skipped?
+     * @param path The path
+     * @return TRUE if it must be skipped
+     */
+    private boolean skipped(final Path path) {
+        return !path.equals(this.root)
+            && path.getParent().equals(this.root)
+            && this.skip.contains(path.getFileName().toString());
+    }
+
+    /**
+     * This file is inside the {@code target/} directory of a module?
+     * @param file The file
+     * @return TRUE if it is
+     */
+    private boolean output(final Path file) {
+        boolean inside = false;
+        Path dir = file.getParent();
+        while (!inside && dir != null && dir.startsWith(this.root)) {
+            inside = Snapshot.output(dir);
+            dir = dir.getParent();
+        }
+        return inside;
+    }
+
+    /**
+     * Try to make a hard link.
+     * @param dest The link to make
+     * @param file The existing file
+     * @return TRUE if made
+     * @throws IOException If fails
+     */
+    private static boolean link(final Path dest, final Path file) throws IOException {
+        Files.deleteIfExists(dest);
+        boolean done;
+        try {
+            Files.createLink(dest, file);
+            done = true;
+        } catch (final UnsupportedOperationException | FileSystemException ex) {
+            done = false;
+        }
+        return done;
+    }
+
+    /**
+     * Copy a file.
+     * @param dest The file to make
+     * @param file The existing file
+     * @param attrs Copy attributes too?
+     * @return Always FALSE, since bytes are copied
+     * @throws IOException If fails
+     */
+    private static boolean copy(final Path dest, final Path file, final boolean attrs)
+        throws IOException {
+        Files.deleteIfExists(dest);
+        if (attrs) {
+            Files.copy(file, dest, StandardCopyOption.COPY_ATTRIBUTES);
+        } else {
+            Files.copy(file, dest);
+        }
+        return false;
+    }
+
+    /**
+     * The file has exactly this content?
+     *
+     * <p>Sizes are compared first, and only if they are equal, the bytes
+     * are compared, chunk by chunk, until the first difference.</p>
+     *
+     * @param file The file, which may be absent
+     * @param size The size of the content
+     * @param input The content
+     * @return TRUE if the content is the same
+     * @throws IOException If fails
+     */
+    static boolean identical(final Path file, final long size, final InputStream input)
+        throws IOException {
+        boolean same = Files.isRegularFile(file) && Files.size(file) == size;
+        if (same) {
+            try (InputStream before = Files.newInputStream(file)) {
+                final byte[] left = new byte[64 * 1024];
+                final byte[] right = new byte[left.length];
+                int len = before.readNBytes(left, 0, left.length);
+                while (same && len > 0) {
+                    same = input.readNBytes(right, 0, len) == len
+                        && Arrays.equals(left, 0, len, right, 0, len);
+                    len = before.readNBytes(left, 0, left.length);
+                }
+            }
+        }
+        return same;
+    }
+
+    /**
+     * The way to put a file into another directory.
+     *
+     * @since 0.16.0
+     */
+    private interface Way {
+        /**
+         * Put it.
+         * @param dest The file to make
+         * @param file The existing file
+         * @return TRUE if it was made without copying bytes
+         * @throws IOException If fails
+         */
+        boolean put(Path dest, Path file) throws IOException;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.time.Duration;
+
+/**
+ * Resources consumed by a Maven build.
+ *
+ * <p>They are sampled a few times a second, while the build is running,
+ * for the Maven process and all its descendants, like forked
+ * Surefire JVMs. Memory, threads, and I/O are read from
+ * {@code /proc/<pid>/status} and {@code /proc/<pid>/io}, that's why on
+ * platforms without {@code /proc} they are always zero:</p>
+ *
+ * <pre>
+ * Usage usage = farea.exec("test").usage();
+ * assert usage.memory() &lt; 512L * 1024L * 1024L;
+ * </pre>
+ *
+ * @since 0.16.0
+ */
+public interface Usage {
+
+    /**
+     * CPU time consumed by all processes.
+     * @return The duration
+     */
+    Duration cpu();
+
+    /**
+     * Peak resident memory of all processes together, in bytes.
+     * @return Total bytes
+     */
+    long memory();
+
+    /**
+     * Peak number of threads in all processes together.
+     * @return Total threads
+     */
+    int threads();
+
+    /**
+     * Bytes read by all processes, including those served from
+     * the page cache.
+     * @return Total bytes
+     */
+    long read();
+
+    /**
+     * Bytes written by all processes.
+     * @return Total bytes
+     */
+    long written();
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.jcabi.log.Logger;
+
+/**
+ * Volume of files copied, linked, or cloned by {@link Tree}.
+ *
+ * @since 0.16.0
+ */
+final class Volume {
+
+    /**
+     * How many files.
+     */
+    private final long total;
+
+    /**
+     * How many bytes in them.
+     */
+    private final long size;
+
+    /**
+     * Ctor.
+     * @param count How many files
+     * @param bytes How many bytes in them
+     */
+    Volume(final long count, final long bytes) {
+        this.total = count;
+        this.size = bytes;
+    }
+
+    /**
+     * How many files.
+     * @return Total number of files
+     */
+    long files() {
+        return this.total;
+    }
+
+    /**
+     * How many bytes in the files.
+     * @return Total size, in bytes
+     */
+    long bytes() {
+        return this.size;
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format("%d file(s), %[size]s", this.total, this.size);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Bundle}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class BundleTest {
+
+    @Test
+    void packsAndUnpacksZip(@Mktmp final Path dir) throws IOException {
+        BundleTest.roundTrip(dir, "home.zip");
+    }
+
+    @Test
+    void packsAndUnpacksTar(@Mktmp final Path dir) throws IOException {
+        BundleTest.roundTrip(dir, "home.tar");
+    }
+
+    @Test
+    void packsAndUnpacksGzippedTar(@Mktmp final Path dir) throws IOException {
+        BundleTest.roundTrip(dir, "home.tgz");
+    }
+
+    @Test
+    void keepsHardLinkedFilesIntact(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        Files.createDirectories(home);
+        Files.write(home.resolve("a.txt"), "new".getBytes(StandardCharsets.UTF_8));
+        new Bundle(home).pack(dir.resolve("home.tar"));
+        final Path fixture = dir.resolve("fixture.txt");
+        Files.write(fixture, "old".getBytes(StandardCharsets.UTF_8));
+        final Path copy = dir.resolve("copy");
+        Files.createDirectories(copy);
+        Files.createLink(copy.resolve("a.txt"), fixture);
+        try (InputStream input = Files.newInputStream(dir.resolve("home.tar"))) {
+            new Bundle(copy).unpack(input);
+        }
+        MatcherAssert.assertThat(
+            "doesn't modify the file hard-linked to the unpacked one",
+            new String(Files.readAllBytes(fixture), StandardCharsets.UTF_8),
+            Matchers.equalTo("old")
+        );
+    }
+
+    @Test
+    void rejectsEntryOutsideOfHome(@Mktmp final Path dir) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("../evil.txt"));
+            zip.write(new byte[] {1});
+            zip.closeEntry();
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Bundle(dir.resolve("home")).unpack(
+                new ByteArrayInputStream(bytes.toByteArray())
+            ),
+            "should not unpack files outside of the home"
+        );
+    }
+
+    @Test
+    void keepsPermissionsInTar(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        Files.createDirectories(home);
+        Files.write(home.resolve("mvnw"), "#!/bin/sh".getBytes(StandardCharsets.UTF_8));
+        Files.setPosixFilePermissions(
+            home.resolve("mvnw"), PosixFilePermissions.fromString("rwxr-x---")
+        );
+        new Bundle(home).pack(dir.resolve("home.tgz"));
+        final Path copy = dir.resolve("copy");
+        try (InputStream input = Files.newInputStream(dir.resolve("home.tgz"))) {
+            new Bundle(copy).unpack(input);
+        }
+        MatcherAssert.assertThat(
+            "keeps the script executable",
+            PosixFilePermissions.toString(Files.getPosixFilePermissions(copy.resolve("mvnw"))),
+            Matchers.equalTo("rwxr-x---")
+        );
+    }
+
+    @Test
+    void keepsSymbolicLinksInTar(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        final String deep = String.join("/", "x".repeat(80), "y".repeat(80), "a.txt");
+        Files.createDirectories(home.resolve(deep).getParent());
+        Files.write(home.resolve(deep), "a".getBytes(StandardCharsets.UTF_8));
+        Files.createSymbolicLink(home.resolve("short"), Paths.get("x".repeat(80)));
+        Files.createSymbolicLink(home.resolve("long"), Paths.get(deep));
+        new Bundle(home).pack(dir.resolve("home.tar"));
+        final Path copy = dir.resolve("copy");
+        try (InputStream input = Files.newInputStream(dir.resolve("home.tar"))) {
+            new Bundle(copy).unpack(input);
+        }
+        MatcherAssert.assertThat(
+            "keeps the link with a short target",
+            Files.readSymbolicLink(copy.resolve("short")),
+            Matchers.equalTo(Paths.get("x".repeat(80)))
+        );
+        MatcherAssert.assertThat(
+            "keeps the link with a long target",
+            new String(Files.readAllBytes(copy.resolve("long")), StandardCharsets.UTF_8),
+            Matchers.equalTo("a")
+        );
+    }
+
+    @Test
+    void rejectsSymbolicLinksInZip(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        Files.createDirectories(home);
+        Files.createSymbolicLink(home.resolve("link"), Paths.get("absent"));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Bundle(home).pack(dir.resolve("home.zip")),
+            "should not lose the symbolic link silently"
+        );
+    }
+
+    @Test
+    void rejectsEntryInsideUnpackedLink(@Mktmp final Path dir) throws IOException {
+        final Path first = dir.resolve("first");
+        Files.createDirectories(first);
+        Files.createSymbolicLink(first.resolve("evil"), dir.resolve("outside"));
+        new Bundle(first).pack(dir.resolve("first.tar"));
+        new DtRequisite(dir, "second/evil/x.txt").write(new byte[] {1});
+        new Bundle(dir.resolve("second")).pack(dir.resolve("second.tar"));
+        final byte[] head = Files.readAllBytes(dir.resolve("first.tar"));
+        final ByteArrayOutputStream tar = new ByteArrayOutputStream();
+        tar.write(head, 0, head.length - 1024);
+        tar.write(Files.readAllBytes(dir.resolve("second.tar")));
+        Files.createDirectories(dir.resolve("outside"));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Bundle(dir.resolve("home")).unpack(
+                new ByteArrayInputStream(tar.toByteArray())
+            ),
+            "should not unpack files through a symbolic link"
+        );
+        MatcherAssert.assertThat(
+            "doesn't write outside of the home",
+            Files.exists(dir.resolve("outside/x.txt")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsUnknownFormat(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Bundle(dir).pack(dir.resolve("home.rar")),
+            "should not pack into an unknown format"
+        );
+    }
+
+    /**
+     * Pack a home into the archive and unpack it back.
+     * @param dir The directory
+     * @param name The name of the archive
+     * @throws IOException If fails
+     */
+    private static void roundTrip(final Path dir, final String name) throws IOException {
+        final Path home = dir.resolve("home");
+        final String deep = String.join("/", "src", "x".repeat(120), "y".repeat(90), "Foo.java");
+        Files.createDirectories(home.resolve(deep).getParent());
+        Files.write(home.resolve(deep), "class Foo {}".getBytes(StandardCharsets.UTF_8));
+        Files.write(home.resolve("big.bin"), new byte[100_000]);
+        Files.createDirectories(home.resolve("target/empty"));
+        Files.createDirectories(home.resolve(".farea"));
+        Files.write(home.resolve(".farea/secret.txt"), new byte[] {1});
+        new Bundle(home).pack(dir.resolve(name));
+        final Path copy = dir.resolve("copy");
+        try (InputStream input = Files.newInputStream(dir.resolve(name))) {
+            new Bundle(copy).unpack(input);
+        }
+        MatcherAssert.assertThat(
+            "restores the file with a long name",
+            new String(Files.readAllBytes(copy.resolve(deep)), StandardCharsets.UTF_8),
+            Matchers.equalTo("class Foo {}")
+        );
+        MatcherAssert.assertThat(
+            "restores the big file",
+            Files.size(copy.resolve("big.bin")),
+            Matchers.equalTo(100_000L)
+        );
+        MatcherAssert.assertThat(
+            "restores the empty directory",
+            Files.isDirectory(copy.resolve("target/empty")),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "doesn't pack the history",
+            Files.exists(copy.resolve(".farea")),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link DtArchive}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DtArchiveTest {
+
+    @Test
+    void listsEntries(@Mktmp final Path dir) throws IOException {
+        try (Archive jar = DtArchiveTest.jar(dir).archive()) {
+            MatcherAssert.assertThat(
+                "lists all entries",
+                jar.entries(),
+                Matchers.contains("META-INF/", "META-INF/MANIFEST.MF", "a/Foo.class")
+            );
+        }
+    }
+
+    @Test
+    void readsEntry(@Mktmp final Path dir) throws IOException {
+        try (Archive jar = DtArchiveTest.jar(dir).archive()) {
+            MatcherAssert.assertThat(
+                "reads the entry",
+                jar.content("META-INF/MANIFEST.MF"),
+                Matchers.startsWith("Manifest-Version")
+            );
+        }
+    }
+
+    @Test
+    void findsSizeOfEntry(@Mktmp final Path dir) throws IOException {
+        try (Archive jar = DtArchiveTest.jar(dir).archive()) {
+            MatcherAssert.assertThat(
+                "finds the uncompressed size",
+                jar.size("a/Foo.class"),
+                Matchers.equalTo(1000L)
+            );
+        }
+    }
+
+    @Test
+    void rejectsAbsentEntry(@Mktmp final Path dir) throws IOException {
+        try (Archive jar = DtArchiveTest.jar(dir).archive()) {
+            MatcherAssert.assertThat(
+                "doesn't find it",
+                jar.contains("b/Bar.class"),
+                Matchers.is(false)
+            );
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> jar.open("b/Bar.class"),
+                "should not open an absent entry"
+            );
+        }
+    }
+
+    private static Requisite jar(final Path dir) throws IOException {
+        final Path file = dir.resolve("target/foo.jar");
+        Files.createDirectories(file.getParent());
+        try (OutputStream output = Files.newOutputStream(file);
+            ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("META-INF/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            zip.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("a/Foo.class"));
+            zip.write(new byte[1000]);
+            zip.closeEntry();
+        }
+        return new DtRequisite(dir, "target/foo.jar");
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link DtHistory}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DtHistoryTest {
+
+    @Test
+    void keepsLogsOfAllRuns(@Mktmp final Path dir) throws IOException {
+        final DtHistory history = new DtHistory(dir);
+        final Path log = dir.resolve("log.txt");
+        for (int idx = 0; idx < 3; ++idx) {
+            final Path run = history.next();
+            Files.deleteIfExists(log);
+            Files.write(
+                log, String.format("run %d", idx).getBytes(StandardCharsets.UTF_8)
+            );
+            history.record(
+                run, log, idx,
+                new Sampler(ProcessHandle.current()).usage(), Duration.ZERO,
+                () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+            );
+        }
+        MatcherAssert.assertThat(
+            "keeps the log of the first run",
+            history.log(1).content(),
+            Matchers.equalTo("run 0")
+        );
+    }
+
+    @Test
+    void keepsExitCodes(@Mktmp final Path dir) throws IOException {
+        final DtHistory history = new DtHistory(dir);
+        final Path log = dir.resolve("log.txt");
+        Files.write(log, "".getBytes(StandardCharsets.UTF_8));
+        history.record(
+            history.next(), log, 0,
+            new Sampler(ProcessHandle.current()).usage(), Duration.ZERO,
+            () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+        );
+        history.record(
+            history.next(), log, 1,
+            new Sampler(ProcessHandle.current()).usage(), Duration.ZERO,
+            () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+        );
+        MatcherAssert.assertThat(
+            "keeps the exit code of the second run",
+            history.code(2),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void keepsResults(@Mktmp final Path dir) throws IOException {
+        final DtHistory history = new DtHistory(dir);
+        final Path log = dir.resolve("log.txt");
+        Files.write(log, "[WARNING] oops".getBytes(StandardCharsets.UTF_8));
+        history.record(
+            history.next(), log, 0,
+            new Sampler(ProcessHandle.current()).usage(), Duration.ofSeconds(42L),
+            () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+        );
+        MatcherAssert.assertThat(
+            "keeps the wall-clock time",
+            history.result(1).wall(),
+            Matchers.equalTo(Duration.ofSeconds(42L))
+        );
+        MatcherAssert.assertThat(
+            "keeps the resources consumed",
+            history.result(1).usage().toString(),
+            Matchers.startsWith("cpu=")
+        );
+    }
+
+    @Test
+    void countsRuns(@Mktmp final Path dir) throws IOException {
+        final DtHistory history = new DtHistory(dir);
+        history.next();
+        history.next();
+        MatcherAssert.assertThat(
+            "counts all runs",
+            history.size(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void restoresCompressedLog(@Mktmp final Path dir) throws IOException {
+        final DtHistory history = new DtHistory(dir, true);
+        final Path log = dir.resolve("log.txt");
+        Files.write(log, "hello, world!".getBytes(StandardCharsets.UTF_8));
+        history.record(
+            history.next(), log, 0,
+            new Sampler(ProcessHandle.current()).usage(), Duration.ZERO,
+            () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+        );
+        Files.delete(log);
+        history.next();
+        MatcherAssert.assertThat(
+            "restores the log from gzip",
+            history.log(1).content(),
+            Matchers.equalTo("hello, world!")
+        );
+    }
+
+    @Test
+    void rejectsAbsentRun(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new DtHistory(dir).log(42),
+            "should not find a run that never happened"
+        );
+    }
+}
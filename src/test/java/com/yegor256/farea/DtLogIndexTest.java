@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link DtLogIndex}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DtLogIndexTest {
+
+    @Test
+    void findsMojoExecutions(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "finds all mojo executions",
+            new DtLogIndex(DtLogIndexTest.log(dir)).mojos(),
+            Matchers.contains(
+                "resources:3.3.1:resources (default-resources) @ test",
+                "compiler:3.13.0:compile (default-compile) @ test"
+            )
+        );
+    }
+
+    @Test
+    void findsWarnings(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "finds all warnings",
+            new DtLogIndex(DtLogIndexTest.log(dir)).warnings(),
+            Matchers.contains("[WARNING] No sources to compile")
+        );
+    }
+
+    @Test
+    void countsLines(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "counts all lines",
+            new DtLogIndex(DtLogIndexTest.log(dir)).lines(),
+            Matchers.equalTo(6L)
+        );
+    }
+
+    @Test
+    void findsStatusesOfModules(@Mktmp final Path dir) throws IOException {
+        final Path log = dir.resolve("log.txt");
+        Files.write(
+            log,
+            String.join(
+                "\n",
+                "[INFO] Building a 0.0.0 [2/4]",
+                "[INFO] test ....... SUCCESS",
+                "[INFO] Reactor Summary for test 0.0.0:",
+                "[INFO] ",
+                "[INFO] test ............................................... SUCCESS [  0.002 s]",
+                "[INFO] a .................................................. SUCCESS [  1.234 s]",
+                "[INFO] b .................................................. FAILURE [  0.512 s]",
+                "[INFO] c .................................................. SKIPPED",
+                "[INFO] ------------------------------------------------------------------------",
+                "[INFO] BUILD FAILURE"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "finds all modules in the summary, in order",
+            new DtLogIndex(log).modules().keySet(),
+            Matchers.contains("test", "a", "b", "c")
+        );
+        MatcherAssert.assertThat(
+            "finds statuses of modules",
+            new DtLogIndex(log).modules(),
+            Matchers.allOf(
+                Matchers.hasEntry("b", "FAILURE"),
+                Matchers.hasEntry("c", "SKIPPED")
+            )
+        );
+    }
+
+    @Test
+    void slicesLogByModules(@Mktmp final Path dir) throws IOException {
+        final Path log = dir.resolve("log.txt");
+        Files.write(
+            log,
+            String.join(
+                "\n",
+                "[INFO] Scanning for projects...",
+                "[INFO] Building a 0.0.0                                   [2/3]",
+                "[INFO] --- compiler:3.13.0:compile (default-compile) @ a ---",
+                "[ERROR] a is broken",
+                "[INFO] Building jar: /tmp/a.jar",
+                "[INFO] Building b 0.0.0                                   [3/3]",
+                "[INFO] --- compiler:3.13.0:compile (default-compile) @ b ---",
+                "[INFO] --- compiler:3.13.0:testCompile (default-testCompile) @ a ---",
+                "[WARNING] a is slow",
+                "[INFO] Reactor Summary for test 0.0.0:",
+                "[INFO] a .................................................. FAILURE [  1.234 s]",
+                "[INFO] b .................................................. SUCCESS [  0.512 s]"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "finds lines of the module, even if they are interleaved",
+            new DtLogIndex(log).slice("a"),
+            Matchers.equalTo(
+                String.join(
+                    System.lineSeparator(),
+                    "[INFO] Building a 0.0.0                                   [2/3]",
+                    "[INFO] --- compiler:3.13.0:compile (default-compile) @ a ---",
+                    "[ERROR] a is broken",
+                    "[INFO] Building jar: /tmp/a.jar",
+                    "[INFO] --- compiler:3.13.0:testCompile (default-testCompile) @ a ---",
+                    "[WARNING] a is slow"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "finds nothing for an absent module",
+            new DtLogIndex(log).slice("c"),
+            Matchers.nullValue()
+        );
+    }
+
+    private static Path log(final Path dir) throws IOException {
+        final Path log = dir.resolve("log.txt");
+        Files.write(
+            log,
+            String.join(
+                "\n",
+                "[INFO] Scanning for projects...",
+                "[INFO] --- resources:3.3.1:resources (default-resources) @ test ---",
+                "[INFO] --- compiler:3.13.0:compile (default-compile) @ test ---",
+                "[WARNING] No sources to compile",
+                "[ERROR] Something is wrong",
+                "[INFO] BUILD SUCCESS"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        return log;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link DtModule}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DtModuleTest {
+
+    @Test
+    void findsStatusInLog(@Mktmp final Path dir) throws IOException {
+        Files.write(
+            dir.resolve("log.txt"),
+            String.join(
+                "\n",
+                "[INFO] Reactor Summary for test 0.0.0:",
+                "[INFO] foo ................................................ FAILURE [  0.1 s]"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "finds the status of the module",
+            new DtModule(dir, "foo", new DtRequisites(dir.resolve("foo"))).status(),
+            Matchers.equalTo("FAILURE")
+        );
+    }
+
+    @Test
+    void givesItsLinesOfLog(@Mktmp final Path dir) throws IOException {
+        Files.write(
+            dir.resolve("log.txt"),
+            String.join(
+                "\n",
+                "[INFO] Building foo 0.0.0 [1/2]",
+                "[ERROR] foo is broken",
+                "[INFO] Building bar 0.0.0 [2/2]",
+                "[INFO] bar is fine"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "gives only the lines of the module",
+            new DtModule(dir, "foo", new DtRequisites(dir.resolve("foo"))).log(),
+            Matchers.allOf(
+                Matchers.containsString("foo is broken"),
+                Matchers.not(Matchers.containsString("bar is fine"))
+            )
+        );
+    }
+
+    @Test
+    void writesFilesIntoItsDirectory(@Mktmp final Path dir) throws IOException {
+        new DtModule(dir, "bar", new DtRequisites(dir.resolve("bar")))
+            .files().file("src/main/java/Bar.java")
+            .write("class Bar {}".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "writes the file into the directory of the module",
+            Files.exists(dir.resolve("bar/src/main/java/Bar.java")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void rejectsAbsentModule(@Mktmp final Path dir) throws IOException {
+        Files.write(
+            dir.resolve("log.txt"),
+            "[INFO] BUILD SUCCESS".getBytes(StandardCharsets.UTF_8)
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new DtModule(dir, "absent", new DtRequisites(dir.resolve("absent"))).status(),
+            "should not find a module that was never built"
+        );
+    }
+}
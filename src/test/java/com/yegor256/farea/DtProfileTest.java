@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.Recording;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link DtProfile}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DtProfileTest {
+
+    @Test
+    void findsGarbageCollections(@Mktmp final Path dir) throws IOException {
+        final Path jfr = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.GarbageCollection");
+            recording.start();
+            System.gc();
+            recording.stop();
+            recording.dump(jfr);
+        }
+        MatcherAssert.assertThat(
+            "finds at least one GC pause",
+            new DtProfile(jfr).pauses(),
+            Matchers.not(Matchers.empty())
+        );
+    }
+
+    @Test
+    void findsHotMethods(@Mktmp final Path dir) throws IOException {
+        final Path jfr = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(1L));
+            recording.start();
+            final long start = System.currentTimeMillis();
+            long sum = 0L;
+            while (System.currentTimeMillis() - start < 500L) {
+                sum += Long.toString(sum).hashCode();
+            }
+            recording.stop();
+            recording.dump(jfr);
+            MatcherAssert.assertThat(
+                "finds no more methods than requested",
+                new DtProfile(jfr).methods(3).size(),
+                Matchers.allOf(Matchers.greaterThan(0), Matchers.lessThanOrEqualTo(3))
+            );
+        }
+    }
+
+    @Test
+    void rejectsAbsentRecording(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new DtProfile(dir.resolve("absent.jfr")).pauses(),
+            "should complain about absent recording"
+        );
+    }
+}
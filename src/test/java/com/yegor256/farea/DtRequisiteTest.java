@@ -6,10 +6,18 @@ package com.yegor256.farea;
 
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -65,6 +73,191 @@ final class DtRequisiteTest {
         );
     }
 
+    @Test
+    void linksDirectory(@Mktmp final Path src, @Mktmp final Path farea) throws IOException {
+        Files.write(src.resolve("big.bin"), new byte[1024]);
+        new DtRequisite(farea, "fixture").link(src);
+        MatcherAssert.assertThat(
+            "links the file",
+            Files.isSameFile(src.resolve("big.bin"), farea.resolve("fixture/big.bin")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void symlinksDirectory(@Mktmp final Path src, @Mktmp final Path farea)
+        throws IOException {
+        src.resolve("a").toFile().mkdirs();
+        Files.write(src.resolve("a/x.txt"), "x".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(farea, "fixture").symlink(src);
+        MatcherAssert.assertThat(
+            "makes a symbolic link",
+            Files.isSymbolicLink(farea.resolve("fixture/a/x.txt")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void writesFromStream(@Mktmp final Path dir) throws IOException {
+        final byte[] data = new byte[3 * 1024 * 1024 + 7];
+        new Random(42L).nextBytes(data);
+        new DtRequisite(dir, "a/big.bin").write(new ByteArrayInputStream(data));
+        MatcherAssert.assertThat(
+            "writes all bytes",
+            Files.readAllBytes(dir.resolve("a/big.bin")),
+            Matchers.equalTo(data)
+        );
+    }
+
+    @Test
+    void writesWithGenerator(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "gen.txt").write("old content".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "gen.txt").write(
+            channel -> {
+                for (int idx = 0; idx < 3; ++idx) {
+                    channel.write(ByteBuffer.wrap("ab".getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "replaces the content with generated one",
+            new DtRequisite(dir, "gen.txt").content(),
+            Matchers.equalTo("ababab")
+        );
+    }
+
+    @Test
+    void makesSparseFile(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "huge.bin").sparse(1L << 28);
+        MatcherAssert.assertThat(
+            "makes a file of the given size",
+            Files.size(dir.resolve("huge.bin")),
+            Matchers.equalTo(1L << 28)
+        );
+    }
+
+    @Test
+    void rejectsNegativeSize(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new DtRequisite(dir, "neg.bin").sparse(-1L),
+            "should not make a file of a negative size"
+        );
+    }
+
+    @Test
+    void leavesIdenticalFileUntouched(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("Foo.java");
+        final byte[] code = "class Foo {}".getBytes(StandardCharsets.UTF_8);
+        new DtRequisite(dir, "Foo.java", true).write(code);
+        final FileTime before = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(file, before);
+        new DtRequisite(dir, "Foo.java", true).write(code);
+        MatcherAssert.assertThat(
+            "keeps the modification time",
+            Files.getLastModifiedTime(file),
+            Matchers.equalTo(before)
+        );
+    }
+
+    @Test
+    void rewritesFileOfSameSize(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "x.txt", true).write("aaa".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "x.txt", true).write("aab".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "writes the new content",
+            new DtRequisite(dir, "x.txt").content(),
+            Matchers.equalTo("aab")
+        );
+    }
+
+    @Test
+    void savesOnlyChangedFiles(@Mktmp final Path src, @Mktmp final Path farea)
+        throws IOException {
+        Files.write(src.resolve("a.txt"), "same".getBytes(StandardCharsets.UTF_8));
+        Files.write(src.resolve("b.txt"), "before".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(farea, "dst", true).save(src);
+        final FileTime before = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(farea.resolve("dst/a.txt"), before);
+        Files.setLastModifiedTime(farea.resolve("dst/b.txt"), before);
+        Files.write(src.resolve("b.txt"), "after!".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(farea, "dst", true).save(src);
+        MatcherAssert.assertThat(
+            "leaves the identical file untouched",
+            Files.getLastModifiedTime(farea.resolve("dst/a.txt")),
+            Matchers.equalTo(before)
+        );
+        MatcherAssert.assertThat(
+            "copies the changed file",
+            new DtRequisite(farea, "dst/b.txt").content(),
+            Matchers.equalTo("after!")
+        );
+    }
+
+    @Test
+    void readsLinesLazily(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "a.txt").write("one\ntwo\nthree\n".getBytes(StandardCharsets.UTF_8));
+        try (Stream<String> lines = new DtRequisite(dir, "a.txt").lines()) {
+            MatcherAssert.assertThat(
+                "reads all lines",
+                lines.collect(Collectors.toList()),
+                Matchers.contains("one", "two", "three")
+            );
+        }
+    }
+
+    @Test
+    void readsWithRandomAccess(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "b.bin").write("0123456789".getBytes(StandardCharsets.UTF_8));
+        final ByteBuffer buf = ByteBuffer.allocate(3);
+        try (SeekableByteChannel channel = new DtRequisite(dir, "b.bin").channel()) {
+            channel.position(5L).read(buf);
+        }
+        MatcherAssert.assertThat(
+            "reads from the position",
+            new String(buf.array(), StandardCharsets.UTF_8),
+            Matchers.equalTo("567")
+        );
+    }
+
+    @Test
+    void mapsIntoMemory(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "c.bin").write(new byte[] {1, 2, 3});
+        MatcherAssert.assertThat(
+            "maps the file",
+            new DtRequisite(dir, "c.bin").mapped().get(2),
+            Matchers.equalTo((byte) 3)
+        );
+    }
+
+    @Test
+    void calculatesSizeAndHash(@Mktmp final Path dir) throws IOException {
+        final Requisite req = new DtRequisite(dir, "d.txt")
+            .write("abc".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "calculates the size",
+            req.size(),
+            Matchers.equalTo(3L)
+        );
+        MatcherAssert.assertThat(
+            "calculates SHA-256",
+            req.sha256(),
+            Matchers.equalTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad")
+        );
+    }
+
+    @Test
+    void readsAsStream(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "e.txt").write("hello".getBytes(StandardCharsets.UTF_8));
+        try (InputStream input = new DtRequisite(dir, "e.txt").inputStream()) {
+            MatcherAssert.assertThat(
+                "reads the bytes",
+                input.readAllBytes().length,
+                Matchers.equalTo(5)
+            );
+        }
+    }
+
     @Test
     void copiesFile(@Mktmp final Path src, @Mktmp final Path farea) throws IOException {
         final Path path = src.resolve("one.txt");
@@ -7,11 +7,19 @@ package com.yegor256.farea;
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -45,4 +53,87 @@ final class DtRequisitesTest {
             Matchers.is(true)
         );
     }
+
+    @Test
+    void seedsManyFiles(@Mktmp final Path dir) throws IOException {
+        final Map<String, byte[]> files = new HashMap<>(0);
+        for (int idx = 0; idx < 50; ++idx) {
+            files.put(
+                String.format("src/d%d/F%d.java", idx % 5, idx),
+                String.format("class F%d {}", idx).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        new DtRequisites(dir).seed(files);
+        MatcherAssert.assertThat(
+            "writes all files",
+            new DtRequisite(dir, "src/d2/F7.java").content(),
+            Matchers.equalTo("class F7 {}")
+        );
+    }
+
+    @Test
+    void seedsFromClasspathDirectory(@Mktmp final Path dir) throws IOException {
+        new DtRequisites(dir).seedFromClasspath("com/yegor256/farea/seed");
+        MatcherAssert.assertThat(
+            "copies nested resources",
+            new DtRequisite(dir, "src/B.java").content(),
+            Matchers.startsWith("class B")
+        );
+    }
+
+    @Test
+    void seedsFromJar(@Mktmp final Path dir) throws IOException {
+        final Path jar = dir.resolve("fixtures.jar");
+        try (OutputStream output = Files.newOutputStream(jar);
+            ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("fixtures/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("fixtures/foo/"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("fixtures/foo/pom.xml"));
+            zip.write("<project/>".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("fixtures/bar.txt"));
+            zip.write("bar".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        final Thread thread = Thread.currentThread();
+        final ClassLoader before = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+            thread.setContextClassLoader(loader);
+            new DtRequisites(dir.resolve("home")).seedFromClasspath("fixtures/foo/");
+        } finally {
+            thread.setContextClassLoader(before);
+        }
+        MatcherAssert.assertThat(
+            "extracts the entry straight from the JAR",
+            new DtRequisite(dir, "home/pom.xml").content(),
+            Matchers.equalTo("<project/>")
+        );
+    }
+
+    @Test
+    void rejectsAbsentResources(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new DtRequisites(dir).seedFromClasspath("absent/fixtures/"),
+            "should not seed from nothing"
+        );
+    }
+
+    @Test
+    void exportsAndImportsArchive(@Mktmp final Path dir) throws IOException {
+        final Requisites source = new DtRequisites(dir.resolve("source"));
+        source.file("pom.xml").write("<project/>".getBytes(StandardCharsets.UTF_8));
+        source.file("target/classes/Foo.class").write(new byte[] {(byte) 0xca, (byte) 0xfe});
+        source.exportArchive(dir.resolve("failed.tar.gz"));
+        MatcherAssert.assertThat(
+            "unpacks the exported archive",
+            new DtRequisites(dir.resolve("target"))
+                .importArchive(dir.resolve("failed.tar.gz"))
+                .file("target/classes/Foo.class")
+                .size(),
+            Matchers.equalTo(2L)
+        );
+    }
 }
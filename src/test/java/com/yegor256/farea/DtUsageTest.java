@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.time.Duration;
+import java.util.Properties;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link DtUsage}.
+ * @since 0.16.0
+ */
+final class DtUsageTest {
+
+    @Test
+    void savesAndLoads() {
+        final Properties props = new Properties();
+        new DtUsage(Duration.ofMillis(42L), 1024L, 7, 10L, 20L).save(props);
+        MatcherAssert.assertThat(
+            "loads the same numbers that were saved",
+            new DtUsage(props).toString(),
+            Matchers.equalTo("cpu=42ms, memory=1Kb, threads=7, read=0Kb, written=0Kb")
+        );
+    }
+
+    @Test
+    void loadsFromEmptyProperties() {
+        MatcherAssert.assertThat(
+            "treats absent numbers as zeros",
+            new DtUsage(new Properties()).memory(),
+            Matchers.equalTo(0L)
+        );
+    }
+}
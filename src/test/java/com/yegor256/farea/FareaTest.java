@@ -10,9 +10,15 @@ import com.yegor256.MktmpResolver;
 import com.yegor256.WeAreOnline;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -61,6 +67,185 @@ final class FareaTest {
         FareaTest.ran(dir);
     }
 
+    @Test
+    void returnsBuildResult(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                f.withChanges();
+                final BuildResult result = f.exec("initialize");
+                MatcherAssert.assertThat(
+                    "returns the result of the build",
+                    result.wall(),
+                    Matchers.greaterThan(Duration.ZERO)
+                );
+                MatcherAssert.assertThat(
+                    "returns the log of the build",
+                    result.log(),
+                    RequisiteMatcher.SUCCESS
+                );
+                MatcherAssert.assertThat(
+                    "doesn't think that pom.xml was modified",
+                    result.changes().modified(),
+                    Matchers.not(Matchers.hasItem("pom.xml"))
+                );
+            }
+        );
+        FareaTest.ran(dir);
+    }
+
+    @Test
+    void takesChangesRightAfterBuild(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                f.withChanges();
+                final BuildResult result = f.exec("initialize");
+                f.files().file("later.txt").write("".getBytes(StandardCharsets.UTF_8));
+                MatcherAssert.assertThat(
+                    "doesn't see files written after the build",
+                    result.changes().added(),
+                    Matchers.not(Matchers.hasItem("later.txt"))
+                );
+            }
+        );
+    }
+
+    @Test
+    void doesNotTrackChangesByDefault(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                final BuildResult result = f.exec("initialize");
+                Assertions.assertThrows(
+                    IllegalStateException.class,
+                    result::changes,
+                    "should not track changes, unless asked to"
+                );
+            }
+        );
+    }
+
+    @Test
+    void deduplicatesIdenticalBuilds(@Mktmp final Path dir) throws IOException {
+        new Jointly<>(
+            thread -> {
+                new Farea(dir.resolve(Integer.toString(thread))).together(
+                    f -> {
+                        f.withDedup();
+                        f.files().file("src/main/java/Stamp.java").write(
+                            String.join(
+                                "\n",
+                                "import java.nio.file.*;",
+                                "public class Stamp {",
+                                "  public static void main(String[] a) throws Exception {",
+                                "    Files.write(Paths.get(a[0]), java.util.UUID.randomUUID()",
+                                "      .toString().getBytes());",
+                                "  }",
+                                "}"
+                            ).getBytes(StandardCharsets.UTF_8)
+                        );
+                        final Configuration cfg = f.build().plugins()
+                            .append("org.codehaus.mojo", "exec-maven-plugin", "3.5.0")
+                            .execution()
+                            .phase("process-classes")
+                            .goals("java")
+                            .configuration();
+                        cfg.set("mainClass", "Stamp");
+                        cfg.set(
+                            "arguments",
+                            Collections.singletonList("${project.build.directory}/stamp.txt")
+                        );
+                        MatcherAssert.assertThat(
+                            "runs the build with deduplication",
+                            f.exec("process-classes").log(),
+                            RequisiteMatcher.SUCCESS
+                        );
+                    }
+                );
+                return 0;
+            }
+        ).made(2);
+        MatcherAssert.assertThat(
+            "runs Maven only once for two identical builds",
+            new String(
+                Files.readAllBytes(dir.resolve("0/target/stamp.txt")),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(
+                new String(
+                    Files.readAllBytes(dir.resolve("1/target/stamp.txt")),
+                    StandardCharsets.UTF_8
+                )
+            )
+        );
+    }
+
+    @Test
+    void logsInDebugWithoutTrackingChanges(@Mktmp final Path dir) throws IOException {
+        final Logger logger = Logger.getLogger("com.yegor256.farea");
+        final Level level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        try {
+            new Farea(dir).together(
+                f -> MatcherAssert.assertThat(
+                    "runs the build with debug logging, not tracking changes",
+                    f.exec("initialize").code(),
+                    Matchers.equalTo(0)
+                )
+            );
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
+    @Test
+    void restoresSnapshot(@Mktmp final Path dir) throws IOException {
+        new Farea(dir.resolve("first")).together(
+            f -> {
+                f.files().file("src/x.txt").write("hello".getBytes(StandardCharsets.UTF_8));
+                f.snapshot("restoresSnapshot");
+            }
+        );
+        MatcherAssert.assertThat(
+            "restores files of the snapshot",
+            Farea.restore("restoresSnapshot", dir.resolve("second"))
+                .files().file("src/x.txt").content(),
+            Matchers.equalTo("hello")
+        );
+    }
+
+    @Test
+    void recordsMavenWithJfr(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                f.withJfr();
+                f.exec("initialize");
+                MatcherAssert.assertThat(
+                    "saves JFR recording next to the log",
+                    dir.resolve(".farea/runs/1/maven.jfr").toFile().exists(),
+                    Matchers.is(true)
+                );
+            }
+        );
+    }
+
+    @Test
+    void reportsLastLinesOfFailedBuild(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                f.withTail(5, 1024L);
+                MatcherAssert.assertThat(
+                    "reports the end of the log",
+                    Assertions.assertThrows(
+                        BuildFailureException.class,
+                        () -> f.exec("wrong-goal"),
+                        "should fail"
+                    ).getMessage(),
+                    Matchers.containsString("BUILD FAILURE")
+                );
+            }
+        );
+        FareaTest.ran(dir);
+    }
+
     @Test
     void callsSimplePlugin(@Mktmp final Path dir) throws IOException {
         new Farea(dir).together(
@@ -82,6 +267,22 @@ final class FareaTest {
         FareaTest.ran(dir);
     }
 
+    @Test
+    void keepsHistoryOfRuns(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                f.execQuiet("wrong-goal");
+                f.exec("initialize");
+                MatcherAssert.assertThat(
+                    "keeps the log of the failed run",
+                    f.history().log(1),
+                    RequisiteMatcher.FAILURE
+                );
+            }
+        );
+        FareaTest.ran(dir);
+    }
+
     @Test
     void cleans(@Mktmp final Path dir) throws IOException {
         new Farea(dir).together(
@@ -135,6 +336,93 @@ final class FareaTest {
         );
     }
 
+    @Test
+    void compilesSyntheticProject(@Mktmp final Path dir) throws IOException {
+        new Farea(dir.resolve("home")).together(
+            f -> {
+                new Synthetic(dir.resolve("repo"))
+                    .withClasses(50, 5)
+                    .withReferences(3)
+                    .withResources(10, 1024)
+                    .withDependencies(5)
+                    .withModules(3)
+                    .writeTo(f);
+                f.exec("compile");
+            }
+        );
+        MatcherAssert.assertThat(
+            "compiles classes of all modules",
+            dir.resolve("home/m2/target/classes/synthetic/m2/C47.class").toFile().exists(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void buildsManyModulesAtOnce(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                f.withOpt("-T2");
+                f.withOpt("--fail-at-end");
+                f.module("good").files().file("src/main/java/Good.java")
+                    .write("class Good {}".getBytes(StandardCharsets.UTF_8));
+                f.module("bad").files().file("src/main/java/Bad.java")
+                    .write("class Bad {".getBytes(StandardCharsets.UTF_8));
+                f.execQuiet("compile");
+                MatcherAssert.assertThat(
+                    "builds the good module",
+                    f.module("good").status(),
+                    Matchers.equalTo("SUCCESS")
+                );
+                MatcherAssert.assertThat(
+                    "fails the bad module",
+                    f.module("bad").status(),
+                    Matchers.equalTo("FAILURE")
+                );
+                MatcherAssert.assertThat(
+                    "gives the log of the good module",
+                    f.module("good").log(),
+                    Matchers.containsString("@ good ---")
+                );
+            }
+        );
+    }
+
+    @Test
+    void buildsAllModulesAtEnd(@Mktmp final Path dir) throws IOException {
+        new Farea(dir).together(
+            f -> {
+                f.withOpt("-T1");
+                f.withOpt("--fail-at-end");
+                f.module("bad").files().file("src/main/java/Bad.java")
+                    .write("class Bad {".getBytes(StandardCharsets.UTF_8));
+                for (final String name : new String[] {"first", "second"}) {
+                    f.module(name).files().file("src/main/java/Good.java")
+                        .write("class Good {}".getBytes(StandardCharsets.UTF_8));
+                }
+                f.execQuiet("compile");
+                MatcherAssert.assertThat(
+                    "fails the bad module",
+                    f.module("bad").status(),
+                    Matchers.equalTo("FAILURE")
+                );
+                MatcherAssert.assertThat(
+                    "builds the module after the failed one",
+                    f.module("second").status(),
+                    Matchers.equalTo("SUCCESS")
+                );
+            }
+        );
+    }
+
+    @Test
+    void rejectsInvalidModuleName(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Farea(dir).module("../escape"),
+            "should not make a module outside of the reactor"
+        );
+    }
+
     private static void ran(final Path dir) {
         MatcherAssert.assertThat(
             "farea ran without exception",
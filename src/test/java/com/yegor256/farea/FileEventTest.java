@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link FileEvent}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class FileEventTest {
+
+    @Test
+    void recordsWritingOfFile(@Mktmp final Path dir) throws IOException {
+        final Path jfr = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.yegor256.farea.File");
+            recording.start();
+            new DtRequisite(dir, "a.txt").write("hello".getBytes(StandardCharsets.UTF_8));
+            recording.stop();
+            recording.dump(jfr);
+        }
+        MatcherAssert.assertThat(
+            "records the number of bytes written",
+            RecordingFile.readAllEvents(jfr).stream()
+                .map(event -> event.getLong("bytes"))
+                .collect(Collectors.toList()),
+            Matchers.contains(5L)
+        );
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Fixtures}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class FixturesTest {
+
+    @Test
+    void restoresCapturedFiles(@Mktmp final Path dir) throws IOException {
+        final Fixtures fixtures = new Fixtures(dir.resolve("fixtures"));
+        new DtRequisite(dir, "a/target/classes/Foo.class")
+            .write("foo".getBytes(StandardCharsets.UTF_8));
+        fixtures.capture("compiled", dir.resolve("a"));
+        fixtures.restore("compiled", dir.resolve("b"));
+        MatcherAssert.assertThat(
+            "restores the file",
+            new DtRequisite(dir, "b/target/classes/Foo.class").content(),
+            Matchers.equalTo("foo")
+        );
+    }
+
+    @Test
+    void doesNotCaptureHistoryAndLog(@Mktmp final Path dir) throws IOException {
+        final Fixtures fixtures = new Fixtures(dir.resolve("fixtures"));
+        new DtRequisite(dir, "a/log.txt").write("log".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "a/.farea/runs/1/log.txt")
+            .write("log".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "a/pom.xml").write("<project/>".getBytes(StandardCharsets.UTF_8));
+        fixtures.capture("x", dir.resolve("a"));
+        MatcherAssert.assertThat(
+            "restores only the pom.xml",
+            fixtures.restore("x", dir.resolve("b")),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void keepsFixtureIntactWhenRequisiteIsRewritten(@Mktmp final Path dir)
+        throws IOException {
+        final Fixtures fixtures = new Fixtures(dir.resolve("fixtures"));
+        new DtRequisite(dir, "a/x.txt").write("before".getBytes(StandardCharsets.UTF_8));
+        fixtures.capture("f", dir.resolve("a"));
+        fixtures.restore("f", dir.resolve("b"));
+        new DtRequisite(dir, "b/x.txt").write("after".getBytes(StandardCharsets.UTF_8));
+        fixtures.restore("f", dir.resolve("c"));
+        MatcherAssert.assertThat(
+            "keeps the original content",
+            new DtRequisite(dir, "c/x.txt").content(),
+            Matchers.equalTo("before")
+        );
+    }
+
+    @Test
+    void detectsFixtureModifiedInPlace(@Mktmp final Path dir) throws IOException {
+        final Fixtures fixtures = new Fixtures(dir.resolve("fixtures"));
+        new DtRequisite(dir, "a/x.txt").write("data".getBytes(StandardCharsets.UTF_8));
+        fixtures.capture("f", dir.resolve("a"));
+        try (OutputStream output = Files.newOutputStream(
+            dir.resolve("fixtures/f/x.txt"), StandardOpenOption.APPEND
+        )) {
+            output.write("more".getBytes(StandardCharsets.UTF_8));
+        }
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> fixtures.restore("f", dir.resolve("b")),
+            "should not restore a spoiled fixture"
+        );
+    }
+
+    @Test
+    void rejectsUnknownFixture(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Fixtures(dir).restore("absent", dir.resolve("b")),
+            "should not restore a fixture that was never captured"
+        );
+    }
+
+    @Test
+    void rejectsInvalidName(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Fixtures(dir).capture("../up", dir.resolve("a")),
+            "should not accept a name with slashes"
+        );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Flights} and {@link Flight}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class FlightsTest {
+
+    @Test
+    void givesResultOfLeaderToFollower(@Mktmp final Path dir) {
+        final Flights flights = new Flights();
+        final Flight leader = flights.take("abc");
+        final Flight follower = flights.take("abc");
+        final BuildResult result = new DtBuildResult(
+            new DtHistory(dir), 1, 42, Duration.ZERO,
+            new DtUsage(Duration.ZERO, 0L, 0, 0L, 0L),
+            () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+        );
+        leader.land(dir, dir, result);
+        MatcherAssert.assertThat(
+            "gives the result of the leader",
+            follower.twin().get().getValue().code(),
+            Matchers.equalTo(42)
+        );
+    }
+
+    @Test
+    void keepsResultsOfLeaderAfterLanding(@Mktmp final Path dir) throws IOException {
+        final Flights flights = new Flights();
+        final Flight leader = flights.take("def");
+        final Flight follower = flights.take("def");
+        final Path home = dir.resolve("leader");
+        new DtRequisite(home, "target/x.txt").write("before".getBytes(StandardCharsets.UTF_8));
+        leader.land(
+            home, home,
+            new DtBuildResult(
+                new DtHistory(home), 1, 0, Duration.ZERO,
+                new DtUsage(Duration.ZERO, 0L, 0, 0L, 0L),
+                () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+            )
+        );
+        new DtRequisite(home, "target/x.txt").write("after".getBytes(StandardCharsets.UTF_8));
+        final Path copy = follower.twin().get().getKey();
+        MatcherAssert.assertThat(
+            "keeps the target of the leader, as it was at landing",
+            new String(
+                Files.readAllBytes(copy.resolve("target/x.txt")),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo("before")
+        );
+        follower.release();
+        MatcherAssert.assertThat(
+            "deletes the copy when the last follower leaves",
+            copy.toFile().exists(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void letsFollowerFlyAloneWhenLeaderAborts() {
+        final Flights flights = new Flights();
+        final Flight leader = flights.take("xyz");
+        final Flight follower = flights.take("xyz");
+        leader.abort(new IllegalStateException("oops"));
+        MatcherAssert.assertThat(
+            "gives nothing to the follower",
+            follower.twin().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void makesNewLeaderAfterLanding(@Mktmp final Path dir) {
+        final Flights flights = new Flights();
+        flights.take("123").abort(new IllegalStateException("done"));
+        MatcherAssert.assertThat(
+            "makes a new leader",
+            flights.take("123").twin().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void neverWaitsForEmptyFingerprint() {
+        final Flights flights = new Flights();
+        flights.take("");
+        MatcherAssert.assertThat(
+            "makes a leader for every empty fingerprint",
+            flights.take("").twin().isPresent(),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Listing}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class ListingTest {
+
+    @Test
+    void listsAllFiles(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "a/b.txt").write(new byte[0]);
+        MatcherAssert.assertThat(
+            "lists the directory and the file",
+            new Listing(dir, dir, 10).text(","),
+            Matchers.equalTo("a,a/b.txt")
+        );
+    }
+
+    @Test
+    void summarizesFilesBeyondLimit(@Mktmp final Path dir) throws IOException {
+        for (int idx = 0; idx < 10; ++idx) {
+            new DtRequisite(dir, String.format("f%d.bin", idx)).write(new byte[100]);
+        }
+        MatcherAssert.assertThat(
+            "counts files beyond the limit",
+            new Listing(dir, dir, 3).text("\n"),
+            Matchers.containsString("... 7 more file(s), ")
+        );
+    }
+
+    @Test
+    void countsOnlyFiles(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "a/b/c/x.txt").write(new byte[0]);
+        new DtRequisite(dir, "a/b/c/y.txt").write(new byte[0]);
+        MatcherAssert.assertThat(
+            "doesn't count directories towards the limit",
+            new Listing(dir, dir, 1).text(","),
+            Matchers.startsWith("a,a/b,a/b/c,a/b/c/")
+        );
+    }
+
+    @Test
+    void filtersByGlob(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "target/classes/Foo.class").write(new byte[0]);
+        new DtRequisite(dir, "target/classes/foo.txt").write(new byte[0]);
+        MatcherAssert.assertThat(
+            "lists only classes",
+            new Listing(dir, dir, Integer.MAX_VALUE, 10, "**.class", false).text(","),
+            Matchers.equalTo("target/classes/Foo.class")
+        );
+    }
+
+    @Test
+    void stopsAtDepth(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "a/b/c/d.txt").write(new byte[0]);
+        MatcherAssert.assertThat(
+            "doesn't go deeper",
+            new Listing(dir, dir, 2, 10, "**", false).text(","),
+            Matchers.equalTo("a,a/b")
+        );
+    }
+
+    @Test
+    void showsSizes(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "x.bin").write(new byte[42]);
+        MatcherAssert.assertThat(
+            "shows the size",
+            new Listing(dir, dir, 1, 10, "**", true).text(","),
+            Matchers.startsWith("x.bin (42")
+        );
+    }
+}
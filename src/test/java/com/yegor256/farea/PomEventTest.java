@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.xembly.Directives;
+
+/**
+ * Test case for {@link PomEvent}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class PomEventTest {
+
+    @Test
+    void recordsModificationOfPom(@Mktmp final Path dir) throws IOException {
+        final Path jfr = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.yegor256.farea.Pom");
+            recording.start();
+            new Pom(dir.resolve("pom.xml")).modify(
+                new Directives().xpath("/project").add("foo").set("bar")
+            );
+            recording.stop();
+            recording.dump(jfr);
+        }
+        MatcherAssert.assertThat(
+            "records the number of directives",
+            RecordingFile.readAllEvents(jfr).stream()
+                .map(event -> event.getInt("directives"))
+                .collect(Collectors.toList()),
+            Matchers.contains(4)
+        );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Ram}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class RamTest {
+
+    @Test
+    void makesHomeInRam(@Mktmp final Path dir) throws IOException {
+        final Path shm = Files.createDirectories(dir.resolve("shm"));
+        MatcherAssert.assertThat(
+            "makes the home in the tmpfs",
+            new Ram(shm, 1L << 20).home(dir.resolve("foo")).startsWith(shm),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void fallsBackToDiskWithoutTmpfs(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "uses the home on the disk",
+            new Ram(dir.resolve("absent"), 1L << 20).home(dir.resolve("foo")),
+            Matchers.equalTo(dir.resolve("foo"))
+        );
+    }
+
+    @Test
+    void fallsBackToDiskWhenBudgetIsExhausted(@Mktmp final Path dir) throws IOException {
+        final Ram ram = new Ram(dir, 100L);
+        final Path home = ram.home(dir.resolve("first"));
+        new DtRequisite(home, "big.bin").write(new byte[200]);
+        MatcherAssert.assertThat(
+            "uses the home on the disk",
+            ram.home(dir.resolve("second")),
+            Matchers.equalTo(dir.resolve("second"))
+        );
+    }
+
+    @Test
+    void fallsBackToDiskWhenTmpfsIsTooSmall(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "uses the home on the disk",
+            new Ram(dir, Long.MAX_VALUE).home(dir.resolve("foo")),
+            Matchers.equalTo(dir.resolve("foo"))
+        );
+    }
+
+    @Test
+    void persistsSelectedFiles(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("ram");
+        new DtRequisite(home, "log.txt").write("log".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(home, "target/surefire-reports/a.xml").write(new byte[0]);
+        new DtRequisite(home, "target/classes/A.class").write(new byte[0]);
+        MatcherAssert.assertThat(
+            "persists only selected files",
+            new Ram(dir, 1L << 20).persist(
+                home, dir.resolve("disk"),
+                Arrays.asList("log.txt", "target/surefire-reports/**")
+            ).files(),
+            Matchers.equalTo(2L)
+        );
+    }
+}
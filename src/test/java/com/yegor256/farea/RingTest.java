@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Ring}.
+ * @since 0.16.0
+ */
+final class RingTest {
+
+    @Test
+    void keepsOnlyLastLines() {
+        final Ring ring = new Ring(2, 1024L);
+        ring.add("first", 5);
+        ring.add("second", 6);
+        ring.add("third", 5);
+        MatcherAssert.assertThat(
+            "keeps only two last lines",
+            ring.lines(),
+            Matchers.contains("second", "third")
+        );
+    }
+
+    @Test
+    void keepsOnlyLastBytes() {
+        final Ring ring = new Ring(100, 10L);
+        ring.add("alpha", 5);
+        ring.add("beta", 4);
+        ring.add("gamma", 5);
+        MatcherAssert.assertThat(
+            "keeps only lines that fit into ten bytes",
+            ring.text(),
+            Matchers.equalTo(String.format("beta%ngamma"))
+        );
+    }
+
+    @Test
+    void keepsVeryLongLastLine() {
+        final Ring ring = new Ring(100, 3L);
+        ring.add("short", 5);
+        ring.add("very long one", 13);
+        MatcherAssert.assertThat(
+            "keeps the last line, even if it is too long",
+            ring.lines(),
+            Matchers.contains("very long one")
+        );
+    }
+
+    @Test
+    void countsDroppedLines() {
+        final Ring ring = new Ring(1, 1024L);
+        ring.add("a", 1);
+        ring.add("b", 1);
+        ring.add("c", 1);
+        MatcherAssert.assertThat(
+            "counts lines that were dropped",
+            ring.dropped(),
+            Matchers.equalTo(2L)
+        );
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Sampler}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SamplerTest {
+
+    @Test
+    void measuresCpuTime() {
+        final Sampler sampler = new Sampler(ProcessHandle.current());
+        sampler.sample();
+        MatcherAssert.assertThat(
+            "measures CPU time of the current process",
+            sampler.cpu(),
+            Matchers.greaterThan(Duration.ZERO)
+        );
+    }
+
+    @Test
+    void readsProcFiles(@Mktmp final Path dir) throws IOException {
+        final Path pid = dir.resolve(Long.toString(ProcessHandle.current().pid()));
+        Files.createDirectories(pid);
+        Files.write(
+            pid.resolve("status"),
+            String.join(
+                "\n",
+                "Name:\tjava", "VmHWM:\t    2048 kB", "VmRSS:\t    1024 kB", "Threads:\t42"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        Files.write(
+            pid.resolve("io"),
+            "rchar: 102400\nwchar: 204800\n".getBytes(StandardCharsets.UTF_8)
+        );
+        final Sampler sampler = new Sampler(ProcessHandle.current(), dir);
+        sampler.sample();
+        MatcherAssert.assertThat(
+            "reads all numbers from /proc",
+            sampler.usage().toString(),
+            Matchers.endsWith("memory=2048Kb, threads=42, read=100Kb, written=200Kb")
+        );
+    }
+
+    @Test
+    void ignoresAbsentProcFiles(@Mktmp final Path dir) {
+        final Sampler sampler = new Sampler(ProcessHandle.current(), dir);
+        sampler.sample();
+        MatcherAssert.assertThat(
+            "doesn't find any memory",
+            sampler.usage().memory(),
+            Matchers.equalTo(0L)
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Scenarios}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class ScenariosTest {
+
+    @Test
+    void startsLongestFirst(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("scenarios.jsonl");
+        final Timings store = new Timings(file);
+        store.add(ScenariosTest.timing("short", 10L));
+        store.add(ScenariosTest.timing("long", 10_000L));
+        store.add(ScenariosTest.timing("medium", 1000L));
+        final Collection<String> started = new ConcurrentLinkedQueue<>();
+        new Scenarios(file, 1, Duration.ofMillis(5000L))
+            .with("short", new Farea(dir.resolve("a")), f -> started.add("short"))
+            .with("medium", new Farea(dir.resolve("b")), f -> started.add("medium"))
+            .with("new", new Farea(dir.resolve("c")), f -> started.add("new"))
+            .with("long", new Farea(dir.resolve("d")), f -> started.add("long"))
+            .run();
+        MatcherAssert.assertThat(
+            "starts scenarios in the order of their previous durations",
+            started,
+            Matchers.contains("long", "new", "medium", "short")
+        );
+    }
+
+    @Test
+    void runsAllEvenIfSomeFail(@Mktmp final Path dir) {
+        final Collection<String> done = new ConcurrentLinkedQueue<>();
+        final IOException ex = Assertions.assertThrows(
+            IOException.class,
+            () -> new Scenarios(dir.resolve("s.jsonl"), 2, Duration.ZERO)
+                .with(
+                    "fails", new Farea(dir.resolve("a")),
+                    f -> {
+                        throw new IOException("oops");
+                    }
+                )
+                .with("works", new Farea(dir.resolve("b")), f -> done.add("works"))
+                .run(),
+            "should fail because one scenario fails"
+        );
+        MatcherAssert.assertThat(
+            "runs the scenario that doesn't fail",
+            done,
+            Matchers.contains("works")
+        );
+        MatcherAssert.assertThat(
+            "explains how many scenarios failed",
+            ex.getMessage(),
+            Matchers.startsWith("1 out of 2")
+        );
+    }
+
+    @Test
+    void remembersDurations(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("scenarios.jsonl");
+        new Scenarios(file, 1, Duration.ZERO)
+            .with("first", new Farea(dir.resolve("a")), f -> f.files().file("x").write(new byte[0]))
+            .run();
+        MatcherAssert.assertThat(
+            "saves the duration of the scenario",
+            new Timings(file).durations(),
+            Matchers.hasKey("first")
+        );
+    }
+
+    @Test
+    void runsInManyWorkers(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("scenarios.jsonl");
+        final Collection<String> done = new ConcurrentLinkedQueue<>();
+        final Scenarios scenarios = new Scenarios(file, 8, Duration.ZERO);
+        for (int idx = 0; idx < 32; ++idx) {
+            final String name = String.format("s%d", idx);
+            scenarios.with(name, new Farea(dir.resolve(name)), f -> done.add(name));
+        }
+        scenarios.run();
+        MatcherAssert.assertThat(
+            "runs all scenarios",
+            done,
+            Matchers.hasSize(32)
+        );
+        MatcherAssert.assertThat(
+            "saves durations of all scenarios",
+            new Timings(file).durations().keySet(),
+            Matchers.hasSize(32)
+        );
+    }
+
+    private static Timing timing(final String name, final long wall) {
+        return new Timing(
+            name, "", Duration.ofMillis(wall), 0,
+            new DtUsage(Duration.ZERO, 0L, 0, 0L, 0L)
+        );
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Settings}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SettingsTest {
+
+    @Test
+    void fingerprintsSettingsOfBuild(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "pom.xml").write("<project/>".getBytes(StandardCharsets.UTF_8));
+        final Settings plain = new Settings();
+        plain.dedup(true);
+        final Settings recorded = new Settings();
+        recorded.dedup(true);
+        recorded.record(true);
+        MatcherAssert.assertThat(
+            "makes different fingerprints with and without JFR",
+            recorded.fingerprint(dir, Collections.emptyList(), "test"),
+            Matchers.not(
+                Matchers.equalTo(plain.fingerprint(dir, Collections.emptyList(), "test"))
+            )
+        );
+    }
+
+    @Test
+    void makesNoFingerprintWithoutDedup(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "makes an empty fingerprint",
+            new Settings().fingerprint(dir, Collections.emptyList(), "test"),
+            Matchers.emptyString()
+        );
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Snapshot} and {@link DtChanges}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SnapshotTest {
+
+    @Test
+    void findsAllFiles(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "a/b/c.txt").write("c".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "d.txt").write("d".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "finds all files, in all directories",
+            new Snapshot(dir, false).files().keySet(),
+            Matchers.containsInAnyOrder("a/b/c.txt", "d.txt")
+        );
+    }
+
+    @Test
+    void ignoresLogAndHistory(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "log.txt").write("".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, ".farea/runs/1/log.txt").write(
+            "".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "ignores the log and the history",
+            new Snapshot(dir, false).files().keySet(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void findsChanges(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "stays.txt").write("1".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "changes.txt").write("1".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "goes.txt").write("1".getBytes(StandardCharsets.UTF_8));
+        final Snapshot snapshot = new Snapshot(dir, true);
+        final Map<String, String> before = snapshot.files();
+        new DtRequisite(dir, "changes.txt").write("22".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "goes.txt").delete();
+        new DtRequisite(dir, "new/comes.txt").write("".getBytes(StandardCharsets.UTF_8));
+        final Changes changes = new DtChanges(before, snapshot.files());
+        MatcherAssert.assertThat(
+            "finds added files",
+            changes.added(),
+            Matchers.contains("new/comes.txt")
+        );
+        MatcherAssert.assertThat(
+            "finds modified files",
+            changes.modified(),
+            Matchers.contains("changes.txt")
+        );
+        MatcherAssert.assertThat(
+            "finds deleted files",
+            changes.deleted(),
+            Matchers.contains("goes.txt")
+        );
+    }
+
+    @Test
+    void findsNothingInAbsentDirectory(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "finds no files",
+            new Snapshot(dir.resolve("absent"), false).files().entrySet(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void detectsSameSizeChangesWithHashes(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("x.txt");
+        Files.write(file, "aaa".getBytes(StandardCharsets.UTF_8));
+        final Snapshot snapshot = new Snapshot(dir, true);
+        final Map<String, String> before = snapshot.files();
+        final long mtime = file.toFile().lastModified();
+        Files.write(file, "bbb".getBytes(StandardCharsets.UTF_8));
+        file.toFile().setLastModified(mtime);
+        MatcherAssert.assertThat(
+            "detects changed content of the same size",
+            new DtChanges(before, snapshot.files()).modified(),
+            Matchers.contains("x.txt")
+        );
+    }
+
+    @Test
+    void makesSameFingerprintOfSameContent(@Mktmp final Path dir) throws IOException {
+        for (final String home : new String[] {"a", "b"}) {
+            new DtRequisite(dir, String.format("%s/src/x.txt", home))
+                .write("hello".getBytes(StandardCharsets.UTF_8));
+        }
+        MatcherAssert.assertThat(
+            "makes the same fingerprint",
+            new Snapshot(dir.resolve("a"), true).fingerprint(Arrays.asList("test")),
+            Matchers.equalTo(
+                new Snapshot(dir.resolve("b"), true).fingerprint(Arrays.asList("test"))
+            )
+        );
+        MatcherAssert.assertThat(
+            "makes a different fingerprint for different args",
+            new Snapshot(dir.resolve("a"), true).fingerprint(Arrays.asList("test")),
+            Matchers.not(
+                Matchers.equalTo(
+                    new Snapshot(dir.resolve("a"), true).fingerprint(Arrays.asList("compile"))
+                )
+            )
+        );
+    }
+
+    @Test
+    void ignoresOutputsInFingerprint(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "pom.xml").write("<project/>".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "sub/pom.xml").write("<project/>".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "src/x.txt").write("hi".getBytes(StandardCharsets.UTF_8));
+        final String before = new Snapshot(dir, false).fingerprint(Arrays.asList("test"));
+        new DtRequisite(dir, "target/y.class").write("x".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "sub/target/z.class").write("z".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "ignores target directories of all modules",
+            new Snapshot(dir, false).fingerprint(Arrays.asList("test")),
+            Matchers.equalTo(before)
+        );
+    }
+
+    @Test
+    void fingerprintsTargetDirectoriesInSources(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "pom.xml").write("<project/>".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "src/test/resources/target/a.txt")
+            .write("a".getBytes(StandardCharsets.UTF_8));
+        final String before = new Snapshot(dir, false).fingerprint(Arrays.asList("test"));
+        new DtRequisite(dir, "src/test/resources/target/a.txt")
+            .write("b".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "takes into account target directories, which are not outputs",
+            new Snapshot(dir, false).fingerprint(Arrays.asList("test")),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+}
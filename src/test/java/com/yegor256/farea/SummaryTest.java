@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Summary}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SummaryTest {
+
+    @Test
+    void printsHeaviestBuildsFirst(@Mktmp final Path dir) {
+        final Summary summary = new Summary(1);
+        summary.add("light", SummaryTest.result(dir, 10L));
+        summary.add("heavy", SummaryTest.result(dir, 1000L));
+        MatcherAssert.assertThat(
+            "prints only the heaviest build",
+            summary.toString(),
+            Matchers.allOf(
+                Matchers.containsString("2 Maven build(s)"),
+                Matchers.containsString("heavy"),
+                Matchers.not(Matchers.containsString("light"))
+            )
+        );
+    }
+
+    private static BuildResult result(final Path dir, final long cpu) {
+        return new DtBuildResult(
+            new DtHistory(dir), 1, 0, Duration.ZERO,
+            new DtUsage(Duration.ofMillis(cpu), 0L, 0, 0L, 0L),
+            () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+        );
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Synthetic}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SyntheticTest {
+
+    @Test
+    void generatesClassesWithReferences(@Mktmp final Path dir) throws IOException {
+        final Farea farea = new Farea(dir);
+        new Synthetic(dir).withClasses(2500, 3).withReferences(2).writeTo(farea);
+        MatcherAssert.assertThat(
+            "refers to other classes",
+            farea.files().file("src/main/java/synthetic/C2499.java").content(),
+            Matchers.allOf(
+                Matchers.containsString("public int m2(final int x)"),
+                Matchers.containsString("new C0().m0(1)"),
+                Matchers.containsString("new C1().m0(2)")
+            )
+        );
+    }
+
+    @Test
+    void generatesResources(@Mktmp final Path dir) throws IOException {
+        final Farea farea = new Farea(dir);
+        new Synthetic(dir).withResources(10, 100).writeTo(farea);
+        MatcherAssert.assertThat(
+            "makes resources of the right size",
+            farea.files().file("src/main/resources/synthetic/r9.txt").size(),
+            Matchers.equalTo(100L)
+        );
+    }
+
+    @Test
+    void generatesModules(@Mktmp final Path dir) throws IOException {
+        final Farea farea = new Farea(dir.resolve("home"));
+        new Synthetic(dir).withClasses(10, 1).withReferences(1).withModules(3).writeTo(farea);
+        MatcherAssert.assertThat(
+            "puts classes into their modules",
+            farea.files().file("m2/src/main/java/synthetic/m2/C5.java").content(),
+            Matchers.containsString("new C8().m0(1)")
+        );
+        MatcherAssert.assertThat(
+            "makes POMs of modules",
+            farea.files().file("m1/pom.xml").content(),
+            Matchers.containsString("<artifactId>m1</artifactId>")
+        );
+    }
+
+    @Test
+    void deploysDependencies(@Mktmp final Path dir) throws IOException {
+        new Synthetic(dir.resolve("repo"))
+            .withDependencies(3)
+            .writeTo(new Farea(dir.resolve("home")));
+        MatcherAssert.assertThat(
+            "deploys the JAR to the local repository",
+            Files.exists(dir.resolve("repo/synthetic/dep2/0.0.0/dep2-0.0.0.jar")),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "adds the repository to the POM",
+            new String(
+                Files.readAllBytes(dir.resolve("home/pom.xml")), StandardCharsets.UTF_8
+            ),
+            Matchers.containsString(dir.resolve("repo").toUri().toString())
+        );
+    }
+
+    @Test
+    void rejectsNegativeNumbers() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Synthetic(Path.of(".")).withClasses(-1, 1),
+            "should not accept a negative number of classes"
+        );
+    }
+
+    @Test
+    void rejectsReferencesWithoutMethods(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Synthetic(dir.resolve("repo"))
+                .withClasses(10, 0)
+                .withReferences(2)
+                .writeTo(new Farea(dir.resolve("home"))),
+            "should not refer to methods, which don't exist"
+        );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Tail}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class TailTest {
+
+    @Test
+    void readsGrowingFile(@Mktmp final Path dir) throws IOException {
+        final Path log = dir.resolve("log.txt");
+        final Ring ring = new Ring(100, 1024L);
+        final Tail tail = new Tail(log, ring);
+        tail.poll();
+        Files.write(log, "hello\nwor".getBytes(StandardCharsets.UTF_8));
+        tail.poll();
+        Files.write(
+            log, "ld\r\nbye".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        tail.poll();
+        tail.flush();
+        MatcherAssert.assertThat(
+            "reads all lines, including incomplete ones",
+            ring.lines(),
+            Matchers.contains("hello", "world", "bye")
+        );
+    }
+
+    @Test
+    void readsLargeFile(@Mktmp final Path dir) throws IOException {
+        final Path log = dir.resolve("large.txt");
+        final StringBuilder text = new StringBuilder(0);
+        for (int idx = 0; idx < 50_000; ++idx) {
+            text.append("line ").append(idx).append('\n');
+        }
+        Files.write(log, text.toString().getBytes(StandardCharsets.UTF_8));
+        final Ring ring = new Ring(3, 1024L);
+        new Tail(log, ring).poll();
+        MatcherAssert.assertThat(
+            "keeps only the last lines of a large file",
+            ring.lines(),
+            Matchers.contains("line 49997", "line 49998", "line 49999")
+        );
+    }
+
+    @Test
+    void truncatesEndlessLine(@Mktmp final Path dir) throws IOException {
+        final Path log = dir.resolve("log.txt");
+        final Ring ring = new Ring(100, 1024L * 1024L);
+        final Tail tail = new Tail(log, ring);
+        final byte[] bar = new byte[10_000];
+        Arrays.fill(bar, (byte) '#');
+        for (int idx = 0; idx < 100; ++idx) {
+            Files.write(log, bar, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            tail.poll();
+        }
+        Files.write(log, "\ndone\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        tail.poll();
+        MatcherAssert.assertThat(
+            "keeps only the beginning of the endless line",
+            ring.lines().iterator().next(),
+            Matchers.endsWith("... (934464 more bytes skipped)")
+        );
+    }
+
+    @Test
+    void truncatesLineBetweenCharacters(@Mktmp final Path dir) throws IOException {
+        final Path log = dir.resolve("log.txt");
+        final Ring ring = new Ring(100, 1024L * 1024L);
+        final Tail tail = new Tail(log, ring);
+        Files.write(
+            log,
+            String.format("%s\n", "\u20ac".repeat(30_000)).getBytes(StandardCharsets.UTF_8)
+        );
+        tail.poll();
+        MatcherAssert.assertThat(
+            "cuts the line before the incomplete character",
+            ring.lines().iterator().next(),
+            Matchers.equalTo(
+                String.format("%s... (24465 more bytes skipped)", "\u20ac".repeat(21_845))
+            )
+        );
+    }
+}
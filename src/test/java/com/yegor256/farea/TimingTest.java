@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Timing}.
+ * @since 0.16.0
+ */
+final class TimingTest {
+
+    @Test
+    void savesAndLoadsJson() {
+        final Timing timing = new Timing(
+            "FooTest#works", "-Dx=\"a\\b\"\ttest",
+            Duration.ofMillis(42L), 1,
+            new DtUsage(Duration.ofMillis(7L), 1024L, 3, 10L, 20L)
+        );
+        MatcherAssert.assertThat(
+            "loads the same timing that was saved",
+            new Timing(timing.json()).json(),
+            Matchers.equalTo(timing.json())
+        );
+    }
+
+    @Test
+    void keepsKeyOfScenario() {
+        MatcherAssert.assertThat(
+            "makes key from test and goals",
+            new Timing("{\"test\":\"X#y\",\"goals\":\"clean test\",\"wall\":5}").key(),
+            Matchers.equalTo("X#y clean test")
+        );
+    }
+
+    @Test
+    void rejectsBrokenJson() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Timing("not a json"),
+            "should reject broken line"
+        );
+    }
+}
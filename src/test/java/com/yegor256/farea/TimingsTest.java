@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Timings}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class TimingsTest {
+
+    @Test
+    void appendsTimings(@Mktmp final Path dir) throws IOException {
+        final Timings timings = new Timings(dir.resolve("a/timings.jsonl"));
+        timings.add(TimingsTest.timing("compile", 100L));
+        timings.add(TimingsTest.timing("test", 200L));
+        timings.add(TimingsTest.timing("compile", 300L));
+        MatcherAssert.assertThat(
+            "keeps the latest duration of each scenario",
+            new Timings(dir.resolve("a/timings.jsonl")).durations(),
+            Matchers.allOf(
+                Matchers.hasEntry("X#y compile", Duration.ofMillis(300L)),
+                Matchers.hasEntry("X#y test", Duration.ofMillis(200L))
+            )
+        );
+    }
+
+    @Test
+    void skipsBrokenLines(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("timings.jsonl");
+        Files.write(
+            file,
+            String.join(
+                "\n",
+                TimingsTest.timing("test", 1000L).json(),
+                "{\"test\":\"A\\",
+                "{\"test\":\"B\\u00",
+                "[1, 2]"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "skips lines that can't be parsed",
+            new Timings(file).durations().keySet(),
+            Matchers.contains("X#y test")
+        );
+    }
+
+    @Test
+    void recordsNothingWhenDisabled(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("timings.jsonl");
+        new Timings(file, false, false).add(
+            "test",
+            new DtBuildResult(
+                new DtHistory(dir), 1, 0, Duration.ZERO,
+                new DtUsage(Duration.ZERO, 0L, 0, 0L, 0L),
+                () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+            )
+        );
+        MatcherAssert.assertThat(
+            "doesn't write the file",
+            file.toFile().exists(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsRegressions(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("timings.jsonl");
+        Files.write(
+            file,
+            String.format("%s%n", TimingsTest.timing("test", 1000L).json())
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        final Timings timings = new Timings(file);
+        timings.add(TimingsTest.timing("test", 5000L));
+        timings.add(TimingsTest.timing("compile", 5000L));
+        MatcherAssert.assertThat(
+            "finds only the scenario that got slower",
+            timings.regressions(),
+            Matchers.contains(Matchers.hasToString("X#y test"))
+        );
+    }
+
+    @Test
+    void makesReports(@Mktmp final Path dir) throws IOException {
+        final Timings timings = new Timings(dir.resolve("timings.jsonl"));
+        timings.add(TimingsTest.timing("fast", 10L));
+        timings.add(TimingsTest.timing("slow", 10_000L));
+        timings.report(dir.resolve("report.json"), dir.resolve("report.html"));
+        MatcherAssert.assertThat(
+            "lists the slowest scenario first",
+            new String(Files.readAllBytes(dir.resolve("report.json")), StandardCharsets.UTF_8),
+            Matchers.stringContainsInOrder("\"goals\":\"slow\"", "\"goals\":\"fast\"")
+        );
+    }
+
+    @Test
+    void findsTestThatExecutedBuild(@Mktmp final Path dir) throws IOException {
+        final Timings timings = new Timings(dir.resolve("timings.jsonl"));
+        timings.add(
+            "clean",
+            new DtBuildResult(
+                new DtHistory(dir), 1, 0, Duration.ZERO,
+                new DtUsage(Duration.ZERO, 0L, 0, 0L, 0L),
+                () -> new DtChanges(new HashMap<>(0), new HashMap<>(0))
+            )
+        );
+        MatcherAssert.assertThat(
+            "records the name of the test method",
+            timings.durations().keySet(),
+            Matchers.contains("TimingsTest#findsTestThatExecutedBuild clean")
+        );
+    }
+
+    @Test
+    void appendsInManyThreads(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("timings.jsonl");
+        new Jointly<>(
+            thread -> {
+                final Timings timings = new Timings(file);
+                for (int idx = 0; idx < 20; ++idx) {
+                    timings.add(TimingsTest.timing(String.format("t%d-%d", thread, idx), 1L));
+                }
+                return thread;
+            }
+        ).made(8);
+        MatcherAssert.assertThat(
+            "appends timings of all threads",
+            new Timings(file).durations().keySet(),
+            Matchers.hasSize(160)
+        );
+    }
+
+    private static Timing timing(final String goals, final long wall) {
+        return new Timing(
+            "X#y", goals, Duration.ofMillis(wall), 0,
+            new DtUsage(Duration.ZERO, 0L, 0, 0L, 0L)
+        );
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Trash}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class TrashTest {
+
+    @Test
+    void removesDirectoryRightAway(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        new DtRequisite(home, "target/classes/a.txt")
+            .write("a".getBytes(StandardCharsets.UTF_8));
+        final Trash trash = new Trash();
+        trash.dispose(home);
+        MatcherAssert.assertThat(
+            "removes the directory",
+            Files.exists(home),
+            Matchers.is(false)
+        );
+        trash.drain();
+    }
+
+    @Test
+    void deletesAllFilesInBackground(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        for (int idx = 0; idx < 20; ++idx) {
+            new DtRequisite(home, String.format("d%d/f%d.txt", idx % 3, idx))
+                .write("x".getBytes(StandardCharsets.UTF_8));
+        }
+        final Trash trash = new Trash();
+        trash.dispose(home);
+        MatcherAssert.assertThat(
+            "deletes all files and directories",
+            trash.drain(),
+            Matchers.equalTo(25L)
+        );
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(
+                "leaves nothing behind",
+                files.collect(Collectors.toList()),
+                Matchers.empty()
+            );
+        }
+    }
+
+    @Test
+    void ignoresAbsentDirectory(@Mktmp final Path dir) throws IOException {
+        final Trash trash = new Trash();
+        trash.dispose(dir.resolve("absent"));
+        MatcherAssert.assertThat(
+            "deletes nothing",
+            trash.drain(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void countsAllDeletionsInBackground(@Mktmp final Path dir) throws IOException {
+        final Trash trash = new Trash();
+        for (int idx = 0; idx < 10; ++idx) {
+            final Path home = dir.resolve(String.format("h%d", idx));
+            new DtRequisite(home, "f.txt").write("x".getBytes(StandardCharsets.UTF_8));
+            trash.dispose(home);
+        }
+        MatcherAssert.assertThat(
+            "counts files of all homes, even if already deleted",
+            trash.drain(),
+            Matchers.equalTo(30L)
+        );
+    }
+
+    @Test
+    void leavesNothingNextToHome(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        for (int idx = 0; idx < 50; ++idx) {
+            new DtRequisite(home, String.format("d%d/f%d.txt", idx % 5, idx))
+                .write("x".getBytes(StandardCharsets.UTF_8));
+        }
+        final Trash trash = new Trash(dir.resolve("trash"), false);
+        trash.dispose(home);
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(
+                "renames the home into the trash, not next to it",
+                files.map(Path::getFileName).map(Path::toString).collect(Collectors.toList()),
+                Matchers.contains("trash")
+            );
+        }
+        MatcherAssert.assertThat(
+            "deletes all files and directories",
+            trash.drain(),
+            Matchers.equalTo(57L)
+        );
+    }
+
+    @Test
+    void erasesDirectoryRightAway(@Mktmp final Path dir) throws IOException {
+        final Path home = dir.resolve("home");
+        new DtRequisite(home, "a/b/c.txt").write("c".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "deletes all files and directories",
+            new Trash().erase(home),
+            Matchers.equalTo(4L)
+        );
+        MatcherAssert.assertThat(
+            "removes the directory",
+            Files.exists(home),
+            Matchers.is(false)
+        );
+    }
+}
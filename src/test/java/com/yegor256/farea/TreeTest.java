@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2023-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.farea;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Tree}.
+ * @since 0.16.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class TreeTest {
+
+    @Test
+    void clonesAllFiles(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "src/a/b.txt").write("b".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "src/c.txt").write("c".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "clones all files",
+            new Tree(dir.resolve("src")).cloneTo(dir.resolve("dst")).files(),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "clones the content",
+            new DtRequisite(dir, "dst/a/b.txt").content(),
+            Matchers.equalTo("b")
+        );
+    }
+
+    @Test
+    void replacesExistingFiles(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "src/x.txt").write("new".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "dst/x.txt").write("old".getBytes(StandardCharsets.UTF_8));
+        new Tree(dir.resolve("src")).cloneTo(dir.resolve("dst"));
+        MatcherAssert.assertThat(
+            "replaces the file",
+            new String(Files.readAllBytes(dir.resolve("dst/x.txt")), StandardCharsets.UTF_8),
+            Matchers.equalTo("new")
+        );
+    }
+
+    @Test
+    void skipsNamedFiles(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "src/log.txt").write("log".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "src/sub/log.txt").write("sub".getBytes(StandardCharsets.UTF_8));
+        new Tree(dir.resolve("src"), "log.txt").copyTo(dir.resolve("dst"));
+        MatcherAssert.assertThat(
+            "skips the file only in the root",
+            Files.exists(dir.resolve("dst/log.txt")),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "copies the file in a subdirectory",
+            Files.exists(dir.resolve("dst/sub/log.txt")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void reflinksOrLinksFiles(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "src/a/b.txt").write("b".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "clones all files",
+            new Tree(dir.resolve("src")).reflinkTo(dir.resolve("dst")).files(),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "clones the content",
+            new DtRequisite(dir, "dst/a/b.txt").content(),
+            Matchers.equalTo("b")
+        );
+    }
+
+    @Test
+    void copiesOutputsInsteadOfLinking(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "src/pom.xml").write("<project/>".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "src/target/classes/A.class")
+            .write("a".getBytes(StandardCharsets.UTF_8));
+        new Tree(dir.resolve("src")).reflinkTo(dir.resolve("dst"));
+        try (OutputStream output = Files.newOutputStream(
+            dir.resolve("dst/target/classes/A.class"), StandardOpenOption.APPEND
+        )) {
+            output.write("b".getBytes(StandardCharsets.UTF_8));
+        }
+        MatcherAssert.assertThat(
+            "keeps the original output intact",
+            new DtRequisite(dir, "src/target/classes/A.class").content(),
+            Matchers.equalTo("a")
+        );
+    }
+
+    @Test
+    void countsBytes(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "src/a.txt").write("abc".getBytes(StandardCharsets.UTF_8));
+        new DtRequisite(dir, "src/b/c.txt").write("de".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "counts bytes of all files",
+            new Tree(dir.resolve("src")).copyTo(dir.resolve("dst")).bytes(),
+            Matchers.equalTo(5L)
+        );
+    }
+
+    @Test
+    void copiesSingleFile(@Mktmp final Path dir) throws IOException {
+        new DtRequisite(dir, "a.txt").write("single".getBytes(StandardCharsets.UTF_8));
+        new Tree(dir.resolve("a.txt")).copyTo(dir.resolve("x/y/b.txt"));
+        MatcherAssert.assertThat(
+            "copies the file",
+            new DtRequisite(dir, "x/y/b.txt").content(),
+            Matchers.equalTo("single")
+        );
+    }
+}